@@ -0,0 +1,120 @@
+package com.crimson.area;
+
+import com.crimson.area.interest.InterestGrid;
+import com.crimson.avatar.Avatar;
+import com.crimson.avatar.monster.MonsterAvatar;
+import com.crimson.bakuretsu.models.frame.AreaFrame;
+import com.crimson.interfaces.IInterestListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterestBenchmark {
+
+    private static final int WORLD_SIZE = 8000;
+    private static final int CELL_SIZE = 200;
+    private static final int RADIUS = 1;
+    private static final int STEP = 40;
+
+    @Param({"1000", "5000"})
+    public int avatars;
+
+    private final List<MonsterAvatar> population = new ArrayList<>();
+    private final List<Avatar<?>> observers = new ArrayList<>();
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final AreaFrame frame = new AreaFrame();
+
+    private InterestGrid grid;
+
+    private long events;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        frame.setId(1);
+        frame.setName("Enter");
+
+        grid = new InterestGrid(CELL_SIZE, RADIUS, new IInterestListener() {
+            @Override
+            public void onEnter(Avatar<?> observer, Avatar<?> subject) {
+                events++;
+            }
+
+            @Override
+            public void onLeave(Avatar<?> observer, Avatar<?> subject) {
+                events++;
+            }
+        });
+
+        for (int i = 0; i < avatars; i++) {
+            MonsterAvatar avatar = new MonsterAvatar();
+            avatar.setPosition(frame, random.nextInt(WORLD_SIZE), random.nextInt(WORLD_SIZE));
+
+            grid.add(avatar, avatar.x(), avatar.y());
+            population.add(avatar);
+        }
+    }
+
+    @Benchmark
+    public void aoi(Messages messages) {
+        events = 0;
+
+        for (MonsterAvatar avatar : population) {
+            int x = Math.clamp(avatar.x() + random.nextInt(-STEP, STEP + 1), 0, WORLD_SIZE - 1);
+            int y = Math.clamp(avatar.y() + random.nextInt(-STEP, STEP + 1), 0, WORLD_SIZE - 1);
+
+            avatar.setPosition(frame, x, y);
+            grid.move(avatar, x, y);
+
+            grid.observers(avatar, observers);
+            messages.messages += observers.size();
+            observers.clear();
+        }
+
+        messages.messages += events;
+        messages.ticks++;
+    }
+
+    @Benchmark
+    public void naive(Messages messages) {
+        for (MonsterAvatar avatar : population) {
+            int x = Math.clamp(avatar.x() + random.nextInt(-STEP, STEP + 1), 0, WORLD_SIZE - 1);
+            int y = Math.clamp(avatar.y() + random.nextInt(-STEP, STEP + 1), 0, WORLD_SIZE - 1);
+
+            avatar.setPosition(frame, x, y);
+
+            for (MonsterAvatar observer : population) {
+                if (observer != avatar) {
+                    messages.messages++;
+                }
+            }
+        }
+
+        messages.ticks++;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Messages {
+
+        public long messages;
+        public long ticks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+            ticks = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.crimson.area;
+
+import com.crimson.area.interest.InterestGrid;
+import com.crimson.area.replication.ReplicationSchema;
+import com.crimson.area.replication.Replicator;
+import com.crimson.avatar.Avatar;
+import com.crimson.avatar.monster.MonsterAvatar;
+import com.crimson.bakuretsu.models.avatar.IAvatarData;
+import com.crimson.bakuretsu.models.frame.AreaFrame;
+import com.crimson.interfaces.IDispatchable;
+import com.crimson.interfaces.IInterestListener;
+import com.crimson.network.message.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplicationBenchmark {
+
+    private static final int WORLD_SIZE = 2000;
+    private static final int CELL_SIZE = 200;
+    private static final int RADIUS = 1;
+    private static final int STEP = 20;
+
+    @Param({"200", "1000"})
+    public int avatars;
+
+    @Param({"full", "delta"})
+    public String mode;
+
+    @Param({"0.2"})
+    public double moving;
+
+    private final List<Avatar<?>> population = new ArrayList<>();
+    private final List<ObserverAvatar> observers = new ArrayList<>();
+    private final List<Avatar<?>> visible = new ArrayList<>();
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final AreaFrame frame = new AreaFrame();
+
+    private InterestGrid grid;
+    private Replicator replicator;
+
+    private long tick;
+    private long bytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        frame.setId(1);
+        frame.setName("Enter");
+
+        replicator = new Replicator();
+        grid = new InterestGrid(CELL_SIZE, RADIUS, mode.equals("delta") ? replicator : IInterestListener.NONE);
+
+        for (int i = 0; i < avatars; i++) {
+            Avatar<?> avatar = i % 2 == 0 ? new ObserverAvatar() : new MonsterAvatar();
+
+            if (avatar instanceof ObserverAvatar observer) {
+                observers.add(observer);
+            }
+
+            avatar.setPosition(frame, random.nextInt(WORLD_SIZE), random.nextInt(WORLD_SIZE));
+            grid.add(avatar, avatar.x(), avatar.y());
+            population.add(avatar);
+        }
+
+        replicator.replicate(tick++);
+    }
+
+    @Benchmark
+    public void tick(Bandwidth bandwidth) {
+        bytes = 0;
+
+        for (Avatar<?> avatar : population) {
+            if (random.nextDouble() >= moving) {
+                continue;
+            }
+
+            int x = Math.clamp(avatar.x() + random.nextInt(-STEP, STEP + 1), 0, WORLD_SIZE - 1);
+            int y = Math.clamp(avatar.y() + random.nextInt(-STEP, STEP + 1), 0, WORLD_SIZE - 1);
+
+            avatar.setPosition(frame, x, y);
+            grid.move(avatar, x, y);
+        }
+
+        if (mode.equals("delta")) {
+            replicator.replicate(tick);
+        } else {
+            for (ObserverAvatar observer : observers) {
+                grid.observers(observer, visible);
+
+                List<Object> enter = new ArrayList<>();
+
+                for (Avatar<?> subject : visible) {
+                    enter.add(subject.state().full());
+                }
+
+                visible.clear();
+
+                observer.dispatch(new Message()
+                    .element("type", "replicate")
+                    .element("tick", tick)
+                    .element("enter", enter));
+            }
+        }
+
+        tick++;
+
+        bandwidth.bytes += bytes;
+        bandwidth.ticks++;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bandwidth {
+
+        public long bytes;
+        public long ticks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            ticks = 0;
+        }
+
+    }
+
+    private final class ObserverAvatar extends Avatar<IAvatarData> implements IDispatchable {
+
+        private ObserverAvatar() {
+            super(ReplicationSchema.PLAYER);
+        }
+
+        @Override
+        public IAvatarData data() {
+            return null;
+        }
+
+        @Override
+        public void dispatch(Message params) {
+            bytes += params.toString().getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.crimson.bakuretsu.accessor;
+
+import com.crimson.bakuretsu.core.ModelMetadata;
+import com.crimson.bakuretsu.database.HydrationBenchmark.BenchCharacter;
+import com.crimson.bakuretsu.database.StubResultSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelAccessorBenchmark {
+
+    private static final String[] COLUMNS = {"id", "user_id", "name", "level", "experience", "gold", "hp", "mp", "x", "y", "speed", "online"};
+
+    private static final Object[][] ROW = {{1L, 1000, "character", 50, 123456789L, 9999L, 1500, 800, 120.5, 340.25, 1.5D, true}};
+
+    private static final int[] INDICES = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12};
+
+    @Param({"generated", "handles"})
+    public String accessor;
+
+    private ModelAccessor modelAccessor;
+    private Object entity;
+    private ResultSet resultSet;
+    private PreparedStatement statement;
+    private final Object[] bound = new Object[COLUMNS.length];
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ModelMetadata metadata = ModelMetadata.get(BenchCharacter.class);
+
+        modelAccessor = accessor.equals("handles") ? ModelAccessors.handles(metadata) : metadata.accessor;
+
+        if (accessor.equals("generated") && modelAccessor instanceof HandleAccessor) {
+            throw new IllegalStateException("Accessor generation fell back to method handles");
+        }
+
+        resultSet = StubResultSet.of(COLUMNS, ROW);
+        resultSet.next();
+
+        statement = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> null);
+
+        entity = modelAccessor.newInstance();
+        modelAccessor.hydrate(entity, resultSet, INDICES);
+    }
+
+    @Benchmark
+    public Object getId() {
+        return modelAccessor.getId(entity);
+    }
+
+    @Benchmark
+    public void getAll(Blackhole blackhole) {
+        for (int i = 0; i < INDICES.length; i++) {
+            blackhole.consume(modelAccessor.get(entity, i));
+        }
+    }
+
+    @Benchmark
+    public Object hydrate() throws Exception {
+        Object instance = modelAccessor.newInstance();
+        modelAccessor.hydrate(instance, resultSet, INDICES);
+        return instance;
+    }
+
+    @Benchmark
+    public void bind() throws Exception {
+        modelAccessor.bind(entity, statement, 0, bound);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.crimson.bakuretsu.cache;
+
+import com.crimson.bakuretsu.annotations.Column;
+import com.crimson.bakuretsu.annotations.Id;
+import com.crimson.bakuretsu.annotations.Table;
+import com.crimson.bakuretsu.core.Model;
+import com.crimson.bakuretsu.models.area.Area;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheManagerBenchmark {
+
+    private static final int ENTRIES = 100;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        CacheManager.clearCache();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            Area area = new Area();
+            area.setId(i);
+            area.setName("area-" + i);
+
+            CacheManager.cacheEntity(Area.class, i, area);
+        }
+    }
+
+    @Benchmark
+    public Optional<Area> hit() {
+        return CacheManager.getCachedEntity(Area.class, next++ % ENTRIES);
+    }
+
+    @Benchmark
+    public Optional<Area> miss() {
+        return CacheManager.getCachedEntity(Area.class, ENTRIES + next++ % ENTRIES);
+    }
+
+    @Benchmark
+    public Optional<Uncached> uncached() {
+        return CacheManager.getCachedEntity(Uncached.class, next++ % ENTRIES);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Area> hitContended() {
+        return CacheManager.getCachedEntity(Area.class, (int) (Thread.currentThread().threadId() + System.nanoTime()) & 63);
+    }
+
+    @Benchmark
+    public void put() {
+        int id = next++ % ENTRIES;
+
+        Area area = new Area();
+        area.setId(id);
+
+        CacheManager.cacheEntity(Area.class, id, area);
+    }
+
+    @Table("uncached")
+    public static class Uncached extends Model<Uncached> {
+
+        @Id
+        @Column(name = "id")
+        private int id;
+
+    }
+
+}
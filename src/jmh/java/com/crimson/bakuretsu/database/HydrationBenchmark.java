@@ -0,0 +1,119 @@
+package com.crimson.bakuretsu.database;
+
+import com.crimson.bakuretsu.annotations.Column;
+import com.crimson.bakuretsu.annotations.Id;
+import com.crimson.bakuretsu.annotations.Table;
+import com.crimson.bakuretsu.core.Model;
+import com.crimson.bakuretsu.models.area.Area;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HydrationBenchmark {
+
+    private static final String[] AREA_COLUMNS = {"id", "name", "asset", "music"};
+
+    private static final String[] CHARACTER_COLUMNS = {"id", "user_id", "name", "level", "experience", "gold", "hp", "mp", "x", "y", "speed", "online"};
+
+    @Param({"1", "100", "100000"})
+    public int rows;
+
+    private Object[][] areaRows;
+    private Object[][] characterRows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        areaRows = new Object[rows][];
+        characterRows = new Object[rows][];
+
+        for (int i = 0; i < rows; i++) {
+            areaRows[i] = new Object[]{i + 1, "area-" + i, "assets/area-" + i + ".swf", "music/area-" + i + ".mp3"};
+            characterRows[i] = new Object[]{(long) i + 1, i + 1000, "character-" + i, 50, 123456789L, 9999L, 1500, 800, 120.5, 340.25, 1.5D, (i & 1) == 0};
+        }
+    }
+
+    @Benchmark
+    public List<Area> area() throws Throwable {
+        return DatabaseOperations.createInstances(Area.class, StubResultSet.of(AREA_COLUMNS, areaRows));
+    }
+
+    @Benchmark
+    public List<BenchCharacter> character() throws Throwable {
+        return DatabaseOperations.createInstances(BenchCharacter.class, StubResultSet.of(CHARACTER_COLUMNS, characterRows));
+    }
+
+    @Benchmark
+    public List<Area> areaLegacy() throws Throwable {
+        return LegacyHydration.createInstances(Area.class, StubResultSet.of(AREA_COLUMNS, areaRows));
+    }
+
+    @Benchmark
+    public List<BenchCharacter> characterLegacy() throws Throwable {
+        return LegacyHydration.createInstances(BenchCharacter.class, StubResultSet.of(CHARACTER_COLUMNS, characterRows));
+    }
+
+    @Benchmark
+    public int baseline() throws Exception {
+        ResultSet rs = StubResultSet.of(CHARACTER_COLUMNS, characterRows);
+        int sum = 0;
+
+        while (rs.next()) {
+            for (String column : CHARACTER_COLUMNS) {
+                sum += rs.getObject(column).hashCode();
+            }
+        }
+
+        return sum;
+    }
+
+    @Table("characters")
+    public static class BenchCharacter extends Model<BenchCharacter> {
+
+        @Id
+        @Column(name = "id")
+        private long id;
+
+        @Column(name = "user_id")
+        private int userId;
+
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "level")
+        private int level;
+
+        @Column(name = "experience")
+        private long experience;
+
+        @Column(name = "gold")
+        private Long gold;
+
+        @Column(name = "hp")
+        private int hp;
+
+        @Column(name = "mp")
+        private int mp;
+
+        @Column(name = "x")
+        private double x;
+
+        @Column(name = "y")
+        private double y;
+
+        @Column(name = "speed")
+        private float speed;
+
+        @Column(name = "online")
+        private boolean online;
+
+    }
+
+}
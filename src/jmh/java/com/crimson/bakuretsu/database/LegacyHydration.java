@@ -0,0 +1,81 @@
+package com.crimson.bakuretsu.database;
+
+import com.crimson.bakuretsu.core.Model;
+import com.crimson.bakuretsu.core.ModelMetadata;
+import com.crimson.exceptions.FieldSetException;
+import com.crimson.exceptions.InvalidFieldValueException;
+import org.joda.time.LocalDateTime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+// The by-name, per-field hydration DatabaseOperations used before RowMapper, kept as a baseline
+final class LegacyHydration {
+
+    private LegacyHydration() {
+    }
+
+    static <R extends Model<?>> List<R> createInstances(Class<R> clazz, ResultSet rs) throws Throwable {
+        List<R> instances = new ArrayList<>();
+
+        while (rs.next()) {
+            instances.add(createInstance(clazz, rs));
+        }
+
+        return Collections.unmodifiableList(instances);
+    }
+
+    static <R extends Model<?>> R createInstance(Class<R> clazz, ResultSet rs) throws Throwable {
+        ModelMetadata metadata = ModelMetadata.get(clazz);
+        R entity = clazz.cast(metadata.constructor.get());
+
+        for (Field field : metadata.fields) {
+            try {
+                MethodHandle setter = metadata.fieldSetters.get(field);
+                setter.invoke(entity, convertValue(field, rs));
+            } catch (Throwable e) {
+                throw new FieldSetException(String.format("Failed to set field '%s' for entity '%s'. Column: '%s'.\nError: %s", field.getName(), metadata.className, ModelMetadata.resolveColumnName(field), e.getMessage()), e);
+            }
+        }
+
+        return entity;
+    }
+
+    private static Object convertValue(Field field, ResultSet rs) throws SQLException {
+        String columnName = ModelMetadata.resolveColumnName(field);
+        Object value = rs.getObject(columnName);
+
+        Class<?> targetType = field.getType();
+
+        if (value == null) {
+            if (targetType.isPrimitive()) {
+                throw new InvalidFieldValueException("Cannot assign null to primitive type: " + targetType.getName());
+            }
+            return null;
+        }
+
+        if (targetType.isAssignableFrom(value.getClass())) {
+            return value;
+        }
+
+        return switch (targetType.getName()) {
+            case "boolean", "java.lang.Boolean" -> rs.getBoolean(columnName);
+            case "java.util.UUID" -> UUID.fromString((String) value);
+            case "java.lang.Integer", "int" -> rs.getInt(columnName);
+            case "java.lang.Long", "long" -> rs.getLong(columnName);
+            case "java.time.LocalDate" -> rs.getDate(columnName).toLocalDate();
+            case "java.time.LocalDateTime" -> LocalDateTime.parse((String) value);
+            case "java.lang.Double", "double" -> rs.getDouble(columnName);
+            case "java.lang.Float", "float" -> rs.getFloat(columnName);
+            case "java.math.BigDecimal" -> rs.getBigDecimal(columnName);
+            default -> value;
+        };
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.crimson.bakuretsu.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+// In-memory ResultSet over fixed rows; only the accessors the ORM uses are implemented
+public final class StubResultSet implements InvocationHandler {
+
+    private final String[] labels;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final Object[][] rows;
+
+    private int cursor = -1;
+    private boolean wasNull;
+
+    private StubResultSet(String[] columns, Object[][] rows) {
+        this.labels = columns;
+
+        for (int i = 0; i < columns.length; i++) {
+            this.columns.put(columns[i], i + 1);
+        }
+
+        this.rows = rows;
+    }
+
+    public static ResultSet of(String[] columns, Object[][] rows) {
+        return (ResultSet) Proxy.newProxyInstance(StubResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, new StubResultSet(columns, rows));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+        switch (method.getName()) {
+            case "next":
+                return ++cursor < rows.length;
+            case "beforeFirst":
+                cursor = -1;
+                return null;
+            case "close":
+                return null;
+            case "wasNull":
+                return wasNull;
+            case "findColumn":
+                return column(args[0]);
+            case "getMetaData":
+                return metaData();
+            case "getObject":
+                return value(args[0]);
+            case "getString":
+                return value(args[0]) == null ? null : value(args[0]).toString();
+            case "getInt":
+                return value(args[0]) instanceof Number number ? number.intValue() : 0;
+            case "getLong":
+                return value(args[0]) instanceof Number number ? number.longValue() : 0L;
+            case "getDouble":
+                return value(args[0]) instanceof Number number ? number.doubleValue() : 0D;
+            case "getFloat":
+                return value(args[0]) instanceof Number number ? number.floatValue() : 0F;
+            case "getBoolean":
+                return value(args[0]) instanceof Boolean bool ? bool : value(args[0]) instanceof Number number && number.intValue() != 0;
+            default:
+                throw new SQLException("Not supported by StubResultSet: " + method.getName());
+        }
+    }
+
+    private ResultSetMetaData metaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(StubResultSet.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getColumnCount" -> labels.length;
+            case "getColumnLabel", "getColumnName" -> labels[(Integer) args[0] - 1];
+            default -> throw new SQLException("Not supported by StubResultSet: " + method.getName());
+        });
+    }
+
+    private int column(Object key) throws SQLException {
+        if (key instanceof Integer index) {
+            return index;
+        }
+
+        Integer index = columns.get((String) key);
+
+        if (index == null) {
+            throw new SQLException("Unknown column: " + key);
+        }
+
+        return index;
+    }
+
+    private Object value(Object key) throws SQLException {
+        Object value = rows[cursor][column(key) - 1];
+        wasNull = value == null;
+        return value;
+    }
+
+}
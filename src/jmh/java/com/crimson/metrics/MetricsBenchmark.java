@@ -0,0 +1,43 @@
+package com.crimson.metrics;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private final Counter counter = Metrics.counter("benchmark.counter");
+    private final Histogram histogram = Metrics.histogram("benchmark.latency");
+
+    private long value = 1;
+
+    @Benchmark
+    public void counter() {
+        counter.add(64);
+    }
+
+    @Benchmark
+    public void histogram() {
+        value = value * 6364136223846793005L + 1442695040888963407L;
+        histogram.record((value >>> 44) & 0xFFFFF);
+    }
+
+    @Benchmark
+    public void timed() {
+        long start = System.nanoTime();
+        histogram.record(System.nanoTime() - start);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void histogramContended() {
+        histogram.record(System.nanoTime() & 0xFFFF);
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.crimson.network;
+
+import com.crimson.config.data.NetworkData;
+import com.crimson.network.decoder.DecoderMode;
+import com.crimson.network.message.CodecMode;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.DelimiterBasedFrameDecoder;
+import io.netty.handler.codec.Delimiters;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NetworkThroughputBenchmark {
+
+    private static final NetworkData LEGACY = new NetworkData(DecoderMode.JSON, CodecMode.JSON_LIB, Transport.AUTO, 1, 1, false, false, null, 5120, 5120, 5120, 5120, 0, 0, 0, 0, null, null, 0, 0, 0);
+
+    private static final byte[] FRAME = "{\"type\":\"request\",\"body\":{\"cmd\":\"move\",\"args\":{\"x\":120,\"y\":340,\"frame\":\"Enter\"}}}\0".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"legacy", "tuned"})
+    public String profile;
+
+    @Param({"64"})
+    public int connections;
+
+    @Param({"256"})
+    public int messagesPerConnection;
+
+    private Network network;
+    private EventLoopGroup clientGroup;
+
+    private final List<Channel> clients = new ArrayList<>();
+
+    private volatile CountDownLatch latch;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        network = new Network("127.0.0.1", 0, new ServerBootstrap());
+
+        network.createSocket(profile.equals("legacy") ? LEGACY : NetworkData.DEFAULT, new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel socketChannel) {
+                socketChannel.pipeline()
+                    .addLast("framer", new DelimiterBasedFrameDecoder(4096, false, Delimiters.nulDelimiter()))
+                    .addLast("echo", new SimpleChannelInboundHandler<ByteBuf>(false) {
+                        @Override
+                        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                            ctx.write(msg, ctx.voidPromise());
+                        }
+
+                        @Override
+                        public void channelReadComplete(ChannelHandlerContext ctx) {
+                            ctx.flush();
+                        }
+                    });
+            }
+        });
+
+        InetSocketAddress address = (InetSocketAddress) network.serverBootstrap().bind(new InetSocketAddress(network.ip(), 0)).sync().channel().localAddress();
+
+        clientGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors());
+
+        Bootstrap bootstrap = new Bootstrap()
+            .group(clientGroup)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel socketChannel) {
+                    socketChannel.pipeline()
+                        .addLast("framer", new DelimiterBasedFrameDecoder(4096, Delimiters.nulDelimiter()))
+                        .addLast("counter", new SimpleChannelInboundHandler<ByteBuf>() {
+                            @Override
+                            protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                                latch.countDown();
+                            }
+                        });
+                }
+            });
+
+        for (int i = 0; i < connections; i++) {
+            clients.add(bootstrap.connect(address).sync().channel());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.forEach(Channel::close);
+        clientGroup.shutdownGracefully();
+        network.serverBootstrap().config().group().shutdownGracefully();
+        network.serverBootstrap().config().childGroup().shutdownGracefully();
+    }
+
+    @Benchmark
+    public void echo(Messages messages) throws InterruptedException {
+        latch = new CountDownLatch(connections * messagesPerConnection);
+
+        ByteBuf frame = Unpooled.wrappedBuffer(FRAME);
+
+        for (Channel client : clients) {
+            for (int i = 0; i < messagesPerConnection; i++) {
+                client.write(frame.retainedDuplicate(), client.voidPromise());
+            }
+
+            client.flush();
+        }
+
+        frame.release();
+
+        if (!latch.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Timed out waiting for echoes, remaining: " + latch.getCount());
+        }
+
+        messages.messages += (long) connections * messagesPerConnection;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Messages {
+
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.crimson.network.decoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkDecoderBenchmark {
+
+    private static final String MOVE = "{\"type\":\"request\",\"body\":{\"cmd\":\"move\",\"args\":{\"x\":120,\"y\":340,\"frame\":\"Enter\",\"pad\":\"Spawn\"}}}";
+
+    @Param({"move", "chat"})
+    public String packet;
+
+    private final NetworkDecoder decoder = new NetworkDecoder();
+    private final NetworkStreamDecoder streamDecoder = new NetworkStreamDecoder();
+
+    private final List<Object> out = new ArrayList<>(1);
+
+    private ByteBuf frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String content = packet.equals("move") ? MOVE : chat();
+        frame = Unpooled.unreleasableBuffer(Unpooled.directBuffer().writeBytes(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        decoder.decode(null, frame.duplicate(), out);
+        blackhole.consume(out.get(0));
+        out.clear();
+    }
+
+    @Benchmark
+    public void decodeStreaming(Blackhole blackhole) {
+        streamDecoder.decode(null, frame.duplicate(), out);
+        blackhole.consume(out.get(0));
+        out.clear();
+    }
+
+    private static String chat() {
+        return "{\"type\":\"request\",\"body\":{\"cmd\":\"chat\",\"args\":{\"channel\":\"zone\",\"message\":\"" + "lorem ipsum dolor sit amet ".repeat(16) + "\"}}}";
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.crimson.network.encoder;
+
+import com.crimson.network.message.Message;
+import com.crimson.network.protocol.Protocol;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkEncoderBenchmark {
+
+    @Param({"1", "50", "200"})
+    public int channels;
+
+    @Param({"json", "binary", "mixed"})
+    public String protocol;
+
+    @Param({"false", "true"})
+    public boolean compression;
+
+    private final List<Channel> targets = new ArrayList<>();
+    private final List<EmbeddedChannel> embedded = new ArrayList<>();
+
+    private Message message;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < channels; i++) {
+            EmbeddedChannel channel = new EmbeddedChannel();
+
+            boolean binary = protocol.equals("binary") || (protocol.equals("mixed") && (i & 1) == 0);
+
+            channel.attr(Protocol.KEY).set(binary ? Protocol.BINARY : Protocol.JSON);
+            channel.attr(Protocol.COMPRESSION).set(binary && compression);
+
+            embedded.add(channel);
+            targets.add(channel);
+        }
+
+        List<Object> entities = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++) {
+            entities.add(new Message()
+                .element("id", i)
+                .element("type", i % 3 == 0 ? "player" : "monster")
+                .element("frame", "Enter")
+                .element("x", 100 + i * 7)
+                .element("y", 300 + i * 3)
+                .element("hp", 1000 - i)
+                .element("mp", 500 - i)
+                .element("state", 1));
+        }
+
+        message = new Message().element("type", "replicate").element("tick", 42).element("enter", entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        embedded.forEach(EmbeddedChannel::finishAndReleaseAll);
+    }
+
+    @Benchmark
+    public int dispatch() {
+        NetworkEncoder.dispatch(message, targets);
+
+        return drain();
+    }
+
+    @Benchmark
+    public int dispatchEach() {
+        for (Channel channel : targets) {
+            NetworkEncoder.dispatch(message, channel);
+        }
+
+        return drain();
+    }
+
+    private int drain() {
+        int bytes = 0;
+
+        for (EmbeddedChannel channel : embedded) {
+            Object msg;
+
+            while ((msg = channel.readOutbound()) != null) {
+                bytes += ((ByteBuf) msg).readableBytes();
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        return bytes;
+    }
+
+}
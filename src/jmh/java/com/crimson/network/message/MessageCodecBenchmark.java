@@ -0,0 +1,106 @@
+package com.crimson.network.message;
+
+import com.crimson.interfaces.IMessageCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.sf.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+    private static final String MOVE = "{\"cmd\":\"move\",\"args\":{\"x\":120,\"y\":340,\"frame\":\"Enter\",\"pad\":\"Spawn\"}}";
+
+    @Param({"JACKSON", "JSON_LIB"})
+    public CodecMode codec;
+
+    @Param({"move", "replicate"})
+    public String packet;
+
+    private IMessageCodec messageCodec;
+
+    private byte[] bytes;
+    private String content;
+    private Message message;
+
+    private ByteBuf out;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        messageCodec = codec.codec();
+        content = packet.equals("move") ? MOVE : replicate();
+        bytes = content.getBytes(StandardCharsets.UTF_8);
+        message = messageCodec.decode(content);
+        out = ByteBufAllocator.DEFAULT.heapBuffer(bytes.length * 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        out.release();
+    }
+
+    @Benchmark
+    public Message decode() {
+        return messageCodec.decode(Unpooled.wrappedBuffer(bytes));
+    }
+
+    @Benchmark
+    public int encode() {
+        out.clear();
+        messageCodec.encode(message, out);
+        return out.readableBytes();
+    }
+
+    @Benchmark
+    public JSONObject legacyDecode() {
+        return JSONObject.fromObject(Unpooled.wrappedBuffer(bytes).toString(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public int legacyEncode(LegacyState legacy) {
+        out.clear();
+        return ByteBufUtil.writeUtf8(out, legacy.json.toString());
+    }
+
+    private static String replicate() {
+        List<Object> enter = new ArrayList<>();
+
+        for (int i = 0; i < 30; i++) {
+            enter.add(new Message()
+                .element("id", 100 + i)
+                .element("t", i % 3 == 0 ? "player" : "monster")
+                .element("v", List.of("Enter", 37 * i % 2000, 53 * i % 2000, 100, 50, "idle")));
+        }
+
+        return new Message()
+            .element("type", "replicate")
+            .element("tick", 4210)
+            .element("enter", enter)
+            .toString();
+    }
+
+    @State(Scope.Benchmark)
+    public static class LegacyState {
+
+        private JSONObject json;
+
+        @Setup(Level.Trial)
+        public void setup(MessageCodecBenchmark benchmark) {
+            json = JSONObject.fromObject(benchmark.content);
+        }
+
+    }
+
+}
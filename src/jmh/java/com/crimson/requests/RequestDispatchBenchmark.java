@@ -0,0 +1,130 @@
+package com.crimson.requests;
+
+import com.crimson.annotations.Request;
+import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.interfaces.IRequest;
+import com.crimson.network.data.JsonBody;
+import com.crimson.network.message.Message;
+import com.crimson.requests.data.ArgsBinder;
+import com.crimson.requests.data.RequestData;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestDispatchBenchmark {
+
+    private static final Message ARGS = new Message().element("x", 120).element("y", 340);
+
+    private static final byte[] WIRE_ARGS = "{\"x\":120,\"y\":340,\"frame\":\"Enter\",\"pad\":\"Spawn\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ArgsBinder binder = ArgsBinder.of(MoveArgs.class);
+
+    private final HashMap<String, Class<IRequest>> legacyTable = new HashMap<>();
+
+    private RequestData requestData;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Class<IRequest> request = (Class<IRequest>) (Class<?>) CountingRequest.class;
+        Request annotation = CountingRequest.class.getAnnotation(Request.class);
+
+        legacyTable.put(annotation.name(), request);
+        legacyTable.put("default", request);
+
+        requestData = RequestData.of(annotation, request, RequestData.factory(request, true));
+    }
+
+    @Benchmark
+    public void reflective(Blackhole blackhole) throws Exception {
+        Class<IRequest> request = legacyTable.getOrDefault("move", legacyTable.get("default"));
+
+        IRequest instance = request.getDeclaredConstructor().newInstance();
+        instance.onRequest(null, ARGS);
+
+        blackhole.consume(instance);
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) throws Exception {
+        IRequest instance = requestData.requestInstance();
+        instance.onRequest(null, ARGS);
+
+        blackhole.consume(instance);
+    }
+
+    @Benchmark
+    public void cachedWithLatency(Blackhole blackhole) {
+        requestData.run(null, JsonBody.of(ARGS));
+
+        blackhole.consume(requestData);
+    }
+
+    @Benchmark
+    public void lookupAndRun(Blackhole blackhole) {
+        RequestData resync = RequestFactory.get("resync");
+        resync.run(PlayerAvatar.NONE, JsonBody.of(ARGS));
+
+        blackhole.consume(resync);
+    }
+
+    @Benchmark
+    public RequestData lookupHit() {
+        return RequestFactory.get("default");
+    }
+
+    @Benchmark
+    public RequestData lookupMiss() {
+        return RequestFactory.get("unknown");
+    }
+
+    @Benchmark
+    public Class<IRequest> lookupLegacyHit() {
+        return legacyTable.getOrDefault("default", legacyTable.get("default"));
+    }
+
+    @Benchmark
+    public Class<IRequest> lookupLegacyMiss() {
+        return legacyTable.getOrDefault("unknown", legacyTable.get("default"));
+    }
+
+    @Benchmark
+    public int bindMessage() {
+        Message args = JsonBody.wrap(Unpooled.wrappedBuffer(WIRE_ARGS)).message();
+
+        return args.getInt("x") + args.getInt("y") + args.getString("frame").length();
+    }
+
+    @Benchmark
+    public int bindTyped() {
+        MoveArgs args = (MoveArgs) binder.bind(JsonBody.wrap(Unpooled.wrappedBuffer(WIRE_ARGS)));
+
+        return args.x() + args.y() + args.frame().length();
+    }
+
+    public record MoveArgs(int x, int y, String frame) {
+    }
+
+    @Request(name = "move")
+    public static class CountingRequest implements IRequest {
+
+        private int calls;
+
+        @Override
+        public void onRequest(PlayerAvatar playerAvatar, Message message) {
+            calls++;
+        }
+
+    }
+
+}
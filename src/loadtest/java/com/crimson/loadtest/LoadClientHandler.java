@@ -0,0 +1,194 @@
+package com.crimson.loadtest;
+
+import com.crimson.network.data.JsonScanner;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+final class LoadClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
+
+    private static final String TYPE = "type";
+    private static final String LOGIN = "login";
+
+    private static final int MAX_PENDING = 64;
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final int bot;
+    private final String name;
+    private final LoadScript script;
+    private final long periodNanos;
+    private final LoadStats stats;
+
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+
+    private long loginSentAt;
+    private long sequence;
+    private boolean stopping;
+
+    private ScheduledFuture<?> sender;
+
+    LoadClientHandler(int bot, String name, LoadScript script, double rate, LoadStats stats) {
+        this.bot = bot;
+        this.name = name;
+        this.script = script;
+        this.periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        this.stats = stats;
+    }
+
+    void stop(Channel channel) {
+        channel.eventLoop().execute(() -> {
+            stopping = true;
+
+            if (sender != null) {
+                sender.cancel(false);
+            }
+
+            stats.unanswered.add(pending.size());
+            pending.clear();
+
+            channel.close();
+        });
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        stats.connected.incrementAndGet();
+
+        loginSentAt = System.nanoTime();
+        send(ctx, "{\"type\":\"event\",\"body\":{\"cmd\":\"login\",\"args\":{\"name\":\"" + name + "\"}}}");
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        stats.connected.decrementAndGet();
+
+        if (loginSentAt == 0) {
+            stats.loggedIn.decrementAndGet();
+        }
+
+        if (sender != null) {
+            sender.cancel(false);
+        }
+
+        if (!stopping) {
+            stats.serverDisconnects.increment();
+        }
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) {
+        long now = System.nanoTime();
+
+        stats.received.increment();
+        stats.bytesIn.add(frame.readableBytes() + 1);
+
+        String type = type(frame);
+
+        if (type == null) {
+            return;
+        }
+
+        if (loginSentAt != 0 && type.equals(LOGIN)) {
+            stats.login.record(now - loginSentAt);
+            stats.loggedIn.incrementAndGet();
+            loginSentAt = 0;
+
+            long jitter = ThreadLocalRandom.current().nextLong(periodNanos);
+            sender = ctx.executor().scheduleAtFixedRate(() -> sendNext(ctx), jitter, periodNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        expire(now);
+
+        // a message answers every request still waiting for its type, so a lost response costs one sample
+        // instead of shifting every later match by one
+        Iterator<Pending> iterator = pending.iterator();
+
+        while (iterator.hasNext()) {
+            Pending waiting = iterator.next();
+
+            if (waiting.expect.equals(type)) {
+                iterator.remove();
+                stats.recordLatency(now - waiting.sentAt);
+            }
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        ctx.close();
+    }
+
+    private void sendNext(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isActive()) {
+            return;
+        }
+
+        if (!ctx.channel().isWritable()) {
+            // the server is not draining; sending more would only measure our own queue
+            return;
+        }
+
+        LoadScript.Step step = script.step(sequence);
+
+        send(ctx, step.frame(bot, sequence++));
+        stats.sent.increment();
+
+        if (step.expect() != null) {
+            long now = System.nanoTime();
+
+            expire(now);
+
+            if (pending.size() == MAX_PENDING) {
+                pending.pollFirst();
+                stats.unanswered.increment();
+            }
+
+            pending.addLast(new Pending(step.expect(), now));
+        }
+    }
+
+    private void expire(long now) {
+        Pending head;
+
+        while ((head = pending.peekFirst()) != null && now - head.sentAt > TIMEOUT_NANOS) {
+            pending.pollFirst();
+            stats.unanswered.increment();
+        }
+    }
+
+    private void send(ChannelHandlerContext ctx, String json) {
+        ByteBuf buffer = ctx.alloc().buffer(json.length() + 1);
+
+        ByteBufUtil.writeUtf8(buffer, json);
+        buffer.writeByte(0);
+
+        stats.bytesOut.add(buffer.readableBytes());
+
+        ctx.writeAndFlush(buffer, ctx.voidPromise());
+    }
+
+    private static String type(ByteBuf frame) {
+        int start = frame.readerIndex();
+        int end = frame.writerIndex();
+        int index = JsonScanner.find(frame, start, end, TYPE);
+
+        if (index == JsonScanner.NOT_FOUND || frame.getByte(index) != '"') {
+            return null;
+        }
+
+        return JsonScanner.readString(frame, index, end);
+    }
+
+    private record Pending(String expect, long sentAt) {
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.crimson.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// One step per line: <command> <args> [-> <type>], with ${x} ${y} ${bot} ${seq} expanded per request
+public record LoadScript(List<Step> steps) {
+
+    public static final LoadScript DEFAULT = new LoadScript(List.of(
+        Step.parse("move {\"x\":${x},\"y\":${y},\"frame\":\"Enter\",\"pad\":\"Spawn\"}"),
+        Step.parse("move {\"x\":${x},\"y\":${y},\"frame\":\"Enter\",\"pad\":\"Spawn\"}"),
+        Step.parse("resync {} -> replicate")
+    ));
+
+    public static LoadScript load(Path path) throws IOException {
+        List<Step> steps = new ArrayList<>();
+
+        for (String line : Files.readAllLines(path)) {
+            line = line.strip();
+
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                steps.add(Step.parse(line));
+            }
+        }
+
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Script " + path + " has no steps");
+        }
+
+        return new LoadScript(List.copyOf(steps));
+    }
+
+    public Step step(long sequence) {
+        return steps.get((int) (sequence % steps.size()));
+    }
+
+    public record Step(String command, String args, String expect) {
+
+        private static final String EXPECT = "->";
+
+        public static Step parse(String line) {
+            String expect = null;
+            int arrow = line.lastIndexOf(EXPECT);
+
+            if (arrow != -1) {
+                expect = line.substring(arrow + EXPECT.length()).strip();
+                line = line.substring(0, arrow).strip();
+            }
+
+            int space = line.indexOf(' ');
+
+            String command = space == -1 ? line : line.substring(0, space);
+            String args = space == -1 ? "{}" : line.substring(space + 1).strip();
+
+            return new Step(command, args, expect);
+        }
+
+        public String frame(int bot, long sequence) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            String body = args
+                .replace("${x}", String.valueOf(random.nextInt(0, 960)))
+                .replace("${y}", String.valueOf(random.nextInt(0, 550)))
+                .replace("${bot}", String.valueOf(bot))
+                .replace("${seq}", String.valueOf(sequence));
+
+            return "{\"type\":\"request\",\"body\":{\"cmd\":\"" + command + "\",\"args\":" + body + "}}";
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.crimson.loadtest;
+
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class LoadStats {
+
+    final AtomicInteger connected = new AtomicInteger();
+    final AtomicInteger loggedIn = new AtomicInteger();
+
+    final Counter connectFailures = new Counter();
+    final Counter serverDisconnects = new Counter();
+    final Counter sent = new Counter();
+    final Counter received = new Counter();
+    final Counter bytesOut = new Counter();
+    final Counter bytesIn = new Counter();
+    final Counter unanswered = new Counter();
+
+    final Histogram login = new Histogram();
+    final Histogram latency = new Histogram();
+    final Histogram intervalLatency = new Histogram();
+
+    private long lastReportAt = System.nanoTime();
+    private long lastSent;
+    private long lastReceived;
+    private long lastBytesOut;
+    private long lastBytesIn;
+
+    void recordLatency(long nanos) {
+        latency.record(nanos);
+        intervalLatency.record(nanos);
+    }
+
+    synchronized String interval() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-9, (now - lastReportAt) / 1e9);
+
+        long sent = this.sent.value();
+        long received = this.received.value();
+        long bytesOut = this.bytesOut.value();
+        long bytesIn = this.bytesIn.value();
+
+        String line = String.format(
+            Locale.ROOT,
+            "players %d/%d | sent %.0f/s recv %.0f/s | out %.1f KiB/s in %.1f KiB/s | latency p50 %s p99 %s max %s | disconnects %d failures %d",
+            loggedIn.get(),
+            connected.get(),
+            (sent - lastSent) / seconds,
+            (received - lastReceived) / seconds,
+            (bytesOut - lastBytesOut) / seconds / 1024,
+            (bytesIn - lastBytesIn) / seconds / 1024,
+            millis(intervalLatency.percentile(50)),
+            millis(intervalLatency.percentile(99)),
+            millis(intervalLatency.max()),
+            serverDisconnects.value(),
+            connectFailures.value()
+        );
+
+        intervalLatency.reset();
+
+        lastReportAt = now;
+        lastSent = sent;
+        lastReceived = received;
+        lastBytesOut = bytesOut;
+        lastBytesIn = bytesIn;
+
+        return line;
+    }
+
+    String summary(long elapsedNanos) {
+        double seconds = Math.max(1e-9, elapsedNanos / 1e9);
+
+        return String.format(
+            Locale.ROOT,
+            """
+                players logged in   %d (connected %d)
+                requests sent       %d (%.0f/s)
+                messages received   %d (%.0f/s)
+                bytes out / in      %d / %d
+                login latency       p50 %s  p99 %s  max %s
+                request latency     p50 %s  p90 %s  p99 %s  p99.9 %s  max %s  (n=%d, unanswered %d)
+                server disconnects  %d
+                connect failures    %d""",
+            loggedIn.get(),
+            connected.get(),
+            sent.value(),
+            sent.value() / seconds,
+            received.value(),
+            received.value() / seconds,
+            bytesOut.value(),
+            bytesIn.value(),
+            millis(login.percentile(50)),
+            millis(login.percentile(99)),
+            millis(login.max()),
+            millis(latency.percentile(50)),
+            millis(latency.percentile(90)),
+            millis(latency.percentile(99)),
+            millis(latency.percentile(99.9)),
+            millis(latency.max()),
+            latency.count(),
+            unanswered.value(),
+            serverDisconnects.value(),
+            connectFailures.value()
+        );
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.crimson.loadtest;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.DelimiterBasedFrameDecoder;
+import io.netty.handler.codec.Delimiters;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final int MAX_FRAME = 1024 * 1024;
+
+    private final LoadTestOptions options;
+    private final LoadScript script;
+    private final LoadStats stats = new LoadStats();
+
+    private final List<Channel> channels = new ArrayList<>();
+
+    public LoadTest(LoadTestOptions options, LoadScript script) {
+        this.options = options;
+        this.script = script;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && args[0].equals("--help")) {
+            System.out.print(LoadTestOptions.usage());
+            return;
+        }
+
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadScript script = options.script() == null ? LoadScript.DEFAULT : LoadScript.load(options.script());
+
+        new LoadTest(options, script).run();
+    }
+
+    public LoadStats run() throws InterruptedException {
+        EventLoopGroup group = new NioEventLoopGroup(options.threads(), new DefaultThreadFactory("loadtest"));
+
+        try {
+            Bootstrap bootstrap = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10_000)
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(32 * 1024, 64 * 1024))
+                .remoteAddress(new InetSocketAddress(options.host(), options.port()));
+
+            log.info(
+                "Load test: {} players against {}:{}, ramp {}/s, {} req/s each for {}s, {} script steps",
+                options.connections(),
+                options.host(),
+                options.port(),
+                options.rampPerSecond(),
+                options.rate(),
+                options.durationSeconds(),
+                script.steps().size()
+            );
+
+            long startedAt = System.nanoTime();
+            long nextReport = startedAt + TimeUnit.SECONDS.toNanos(options.reportSeconds());
+
+            long rampInterval = TimeUnit.SECONDS.toNanos(1) / Math.max(1, options.rampPerSecond());
+
+            for (int bot = 0; bot < options.connections(); bot++) {
+                connect(bootstrap, bot);
+
+                long deadline = startedAt + rampInterval * (bot + 1);
+
+                while (System.nanoTime() < deadline) {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(deadline - System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(10)));
+                }
+
+                if (System.nanoTime() >= nextReport) {
+                    log.info("[ramp] {}", stats.interval());
+                    nextReport += TimeUnit.SECONDS.toNanos(options.reportSeconds());
+                }
+            }
+
+            long steadyAt = System.nanoTime();
+            long endAt = steadyAt + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+            while (System.nanoTime() < endAt) {
+                TimeUnit.NANOSECONDS.sleep(Math.max(0, Math.min(endAt, nextReport) - System.nanoTime()));
+
+                if (System.nanoTime() >= nextReport) {
+                    log.info("[load] {}", stats.interval());
+                    nextReport += TimeUnit.SECONDS.toNanos(options.reportSeconds());
+                }
+            }
+
+            log.info("Load test finished\n{}", stats.summary(System.nanoTime() - startedAt));
+
+            synchronized (channels) {
+                for (Channel channel : channels) {
+                    channel.pipeline().get(LoadClientHandler.class).stop(channel);
+                }
+            }
+
+            return stats;
+        } finally {
+            group.shutdownGracefully(0, 5, TimeUnit.SECONDS).syncUninterruptibly();
+        }
+    }
+
+    private void connect(Bootstrap bootstrap, int bot) {
+        LoadClientHandler handler = new LoadClientHandler(bot, options.namePrefix() + bot, script, options.rate(), stats);
+
+        ChannelFuture future = bootstrap.clone().handler(new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel channel) {
+                channel.pipeline()
+                    .addLast("framer", new DelimiterBasedFrameDecoder(MAX_FRAME, Delimiters.nulDelimiter()))
+                    .addLast("player", handler);
+            }
+        }).connect();
+
+        future.addListener(result -> {
+            if (!result.isSuccess()) {
+                stats.connectFailures.increment();
+                log.debug("Connection {} failed: {}", bot, result.cause().getMessage());
+                return;
+            }
+
+            synchronized (channels) {
+                channels.add(future.channel());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.crimson.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestOptions(
+    String host,
+    int port,
+    int connections,
+    int rampPerSecond,
+    double rate,
+    int durationSeconds,
+    int reportSeconds,
+    int threads,
+    String namePrefix,
+    Path script
+) {
+
+    public static final int DEFAULT_PORT = 7777;
+    public static final int DEFAULT_CONNECTIONS = 1000;
+    public static final String DEFAULT_NAME = "bot";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+
+            int separator = arg.indexOf('=');
+
+            if (separator == -1) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        return new LoadTestOptions(
+            values.getOrDefault("host", "127.0.0.1"),
+            Integer.parseInt(values.getOrDefault("port", String.valueOf(DEFAULT_PORT))),
+            Integer.parseInt(values.getOrDefault("connections", String.valueOf(DEFAULT_CONNECTIONS))),
+            Integer.parseInt(values.getOrDefault("ramp", "250")),
+            Double.parseDouble(values.getOrDefault("rate", "2")),
+            Integer.parseInt(values.getOrDefault("duration", "60")),
+            Integer.parseInt(values.getOrDefault("report", "5")),
+            Integer.parseInt(values.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+            values.getOrDefault("name", DEFAULT_NAME),
+            values.containsKey("script") ? Path.of(values.get("script")) : null
+        );
+    }
+
+    public static String usage() {
+        return """
+            Usage: LoadTest [--host=127.0.0.1] [--port=7777] [--connections=1000] [--ramp=250]
+                            [--rate=2] [--duration=60] [--report=5] [--threads=N] [--name=bot] [--script=file]
+
+              --connections  number of simulated players
+              --ramp         new connections opened per second
+              --rate         scripted requests per second, per player
+              --duration     seconds to keep sending after the last connection is up
+              --report       seconds between progress reports
+              --script       request script (see LoadScript); defaults to move + resync
+            """;
+    }
+
+}
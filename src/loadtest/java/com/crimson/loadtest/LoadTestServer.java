@@ -0,0 +1,36 @@
+package com.crimson.loadtest;
+
+import com.crimson.bakuretsu.Database;
+import com.crimson.config.Config;
+import com.crimson.metrics.MetricsExporter;
+import com.crimson.network.Network;
+import io.netty.bootstrap.ServerBootstrap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Run from src/loadtest, so conf/config.yml points the pool at H2
+public final class LoadTestServer {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestServer.class);
+
+    private LoadTestServer() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String ip = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : LoadTestOptions.DEFAULT_PORT;
+        int rows = args.length > 2 ? Integer.parseInt(args[2]) : LoadTestOptions.DEFAULT_CONNECTIONS;
+
+        log.info("Database: {}", Config.singleton().database().JDBC_URL());
+
+        SchemaSeeder.seed(Database.pool(), rows);
+
+        MetricsExporter.start(Config.singleton().metrics());
+
+        Network network = new Network(ip, port, new ServerBootstrap());
+
+        network.createSocket();
+        network.bind();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.crimson.loadtest;
+
+import com.crimson.bakuretsu.annotations.Table;
+import com.crimson.bakuretsu.core.Model;
+import com.crimson.bakuretsu.core.ModelMetadata;
+import org.reflections.Reflections;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+final class SchemaSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaSeeder.class);
+
+    private static final String MODELS = "com.crimson.bakuretsu.models";
+
+    private static final String CHARACTERS = "characters";
+    private static final String NAME = "name";
+
+    private SchemaSeeder() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static void seed(DataSource dataSource, int rows) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            for (Class<?> model : new Reflections(MODELS).getSubTypesOf(Model.class).stream().sorted(Comparator.comparing(Class::getName)).toList()) {
+                if (!model.isAnnotationPresent(Table.class)) {
+                    continue;
+                }
+
+                ModelMetadata metadata = ModelMetadata.get((Class<? extends Model<?>>) model);
+
+                create(conn, metadata);
+                insert(conn, metadata, rows);
+
+                log.info("Seeded '{}' with {} rows", metadata.tableName, rows);
+            }
+        }
+    }
+
+    private static void create(Connection conn, ModelMetadata metadata) throws SQLException {
+        StringJoiner columns = new StringJoiner(", ", "CREATE TABLE IF NOT EXISTS " + quote(metadata.tableName) + " (", ")");
+
+        for (Field field : metadata.fields) {
+            String column = quote(ModelMetadata.resolveColumnName(field)) + " " + sqlType(field.getType());
+
+            if (field.equals(metadata.idField)) {
+                column += " PRIMARY KEY";
+            }
+
+            columns.add(column);
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(columns.toString());
+        }
+    }
+
+    private static void insert(Connection conn, ModelMetadata metadata, int rows) throws SQLException {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+
+        for (Field field : metadata.fields) {
+            columns.add(quote(ModelMetadata.resolveColumnName(field)));
+            placeholders.add("?");
+        }
+
+        String sql = "INSERT INTO " + quote(metadata.tableName) + " (" + columns + ") VALUES (" + placeholders + ")";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int row = 1; row <= rows; row++) {
+                int index = 1;
+
+                for (Field field : metadata.fields) {
+                    stmt.setObject(index++, value(metadata, field, row));
+                }
+
+                stmt.addBatch();
+            }
+
+            stmt.executeBatch();
+        }
+    }
+
+    private static String sqlType(Class<?> type) {
+        return switch (type.getName()) {
+            case "int", "java.lang.Integer", "short", "java.lang.Short", "byte", "java.lang.Byte" -> "INT";
+            case "long", "java.lang.Long" -> "BIGINT";
+            case "boolean", "java.lang.Boolean" -> "BOOLEAN";
+            case "double", "java.lang.Double" -> "DOUBLE PRECISION";
+            case "float", "java.lang.Float" -> "REAL";
+            case "java.math.BigDecimal" -> "DECIMAL(19, 4)";
+            case "java.time.LocalDate" -> "DATE";
+            default -> "VARCHAR(255)";
+        };
+    }
+
+    private static Object value(ModelMetadata metadata, Field field, int row) {
+        // characters are named like the load test bots (bot0, bot1, ...) so their logins find a row
+        if (metadata.tableName.equals(CHARACTERS) && ModelMetadata.resolveColumnName(field).equals(NAME)) {
+            return LoadTestOptions.DEFAULT_NAME + (row - 1);
+        }
+
+        return switch (field.getType().getName()) {
+            case "int", "java.lang.Integer", "short", "java.lang.Short", "byte", "java.lang.Byte" -> row;
+            case "long", "java.lang.Long" -> (long) row;
+            case "boolean", "java.lang.Boolean" -> (row & 1) == 0;
+            case "double", "java.lang.Double", "float", "java.lang.Float" -> row + 0.5;
+            case "java.math.BigDecimal" -> BigDecimal.valueOf(row);
+            case "java.time.LocalDate" -> LocalDate.of(2025, 1, 1).plusDays(row);
+            case "java.util.UUID" -> new UUID(0, row).toString();
+            default -> ModelMetadata.resolveColumnName(field) + "-" + row;
+        };
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier + "\"";
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.crimson;
 
+import com.crimson.bakuretsu.writebehind.WriteBehind;
+import com.crimson.config.Config;
+import com.crimson.metrics.MetricsExporter;
 import io.netty.handler.traffic.GlobalTrafficShapingHandler;
 import org.slf4j.LoggerFactory;
 
@@ -14,6 +17,11 @@ public class Main {
     public static void main(String[] args) {
         log.info("#################### Logger");
         setupLogger();
+
+        MetricsExporter.start(Config.singleton().metrics());
+
+        WriteBehind.start(Config.singleton().writeBehind());
+        Runtime.getRuntime().addShutdownHook(new Thread(WriteBehind::shutdown, "write-behind-shutdown"));
     }
     private static void setupLogger() {
     }
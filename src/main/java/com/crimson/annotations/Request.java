@@ -1,5 +1,8 @@
 package com.crimson.annotations;
 
+import com.crimson.interfaces.IBinaryCodec;
+import com.crimson.network.protocol.codec.JsonArgsCodec;
+
 import java.lang.annotation.*;
 
 @Repeatable(RequestValues.class)
@@ -8,4 +11,16 @@ import java.lang.annotation.*;
 public @interface Request {
     String name();
 
+    Class<? extends IBinaryCodec> codec() default JsonArgsCodec.class;
+
+    boolean shared() default true;
+
+    int cost() default 1;
+
+    int rate() default 0;
+
+    int burst() default 0;
+
+    Class<? extends Record> args() default Record.class;
+
 }
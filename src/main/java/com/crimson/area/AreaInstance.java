@@ -0,0 +1,294 @@
+package com.crimson.area;
+
+import com.crimson.area.interest.InterestGrid;
+import com.crimson.area.replication.Replicator;
+import com.crimson.area.tick.TickScheduler;
+import com.crimson.area.tick.TickTask;
+import com.crimson.avatar.Avatar;
+import com.crimson.avatar.monster.MonsterAvatar;
+import com.crimson.avatar.npc.NPCAvatar;
+import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.bakuretsu.models.area.Area;
+import com.crimson.bakuretsu.models.frame.AreaFrame;
+import com.crimson.config.Config;
+import com.crimson.config.data.WorldData;
+import com.crimson.controller.AreaController;
+import com.crimson.interfaces.IInterestListener;
+import com.crimson.interfaces.ITickable;
+import com.crimson.network.encoder.NetworkEncoder;
+import com.crimson.network.encoder.OutboundBatcher;
+import com.crimson.network.encoder.Priority;
+import com.crimson.network.message.Message;
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AreaInstance implements ITickable {
+
+    private static final int CLOSED = -1;
+
+    private final int id;
+    private final Area area;
+    private final int capacity;
+    private final EventExecutor executor;
+
+    private final AtomicInteger reserved;
+
+    private final List<PlayerAvatar> players = new ArrayList<>();
+    private final List<MonsterAvatar> monsters = new ArrayList<>();
+    private final List<NPCAvatar> npcs = new ArrayList<>();
+    private final List<Channel> channels = new ArrayList<>();
+
+    private final Map<Integer, InterestGrid> grids = new HashMap<>();
+    private final List<Avatar<?>> observers = new ArrayList<>();
+    private final List<Channel> nearby = new ArrayList<>();
+
+    private final Replicator replicator = new Replicator();
+
+    private TickTask tickTask;
+
+    private volatile IInterestListener interestListener = IInterestListener.NONE;
+
+    private final IInterestListener forwarder = new IInterestListener() {
+        @Override
+        public void onEnter(Avatar<?> observer, Avatar<?> subject) {
+            replicator.onEnter(observer, subject);
+            interestListener.onEnter(observer, subject);
+        }
+
+        @Override
+        public void onLeave(Avatar<?> observer, Avatar<?> subject) {
+            replicator.onLeave(observer, subject);
+            interestListener.onLeave(observer, subject);
+        }
+    };
+
+    public AreaInstance(int id, Area area, int capacity, EventExecutor executor, int reserved) {
+        this.id = id;
+        this.area = area;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.reserved = new AtomicInteger(reserved);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public Area area() {
+        return area;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public EventExecutor executor() {
+        return executor;
+    }
+
+    public int population() {
+        return Math.max(0, reserved.get());
+    }
+
+    public boolean isClosed() {
+        return reserved.get() == CLOSED;
+    }
+
+    public List<PlayerAvatar> players() {
+        return Collections.unmodifiableList(players);
+    }
+
+    public List<MonsterAvatar> monsters() {
+        return Collections.unmodifiableList(monsters);
+    }
+
+    public List<NPCAvatar> npcs() {
+        return Collections.unmodifiableList(npcs);
+    }
+
+    public TickTask tickTask() {
+        return tickTask;
+    }
+
+    public void start() {
+        tickTask = TickScheduler.schedule(this, executor);
+    }
+
+    @Override
+    public void tick(long tick) {
+        for (int i = 0; i < monsters.size(); i++) {
+            monsters.get(i).tick(tick);
+        }
+
+        for (int i = 0; i < npcs.size(); i++) {
+            npcs.get(i).tick(tick);
+        }
+
+        replicator.replicate(tick);
+
+        for (int i = 0; i < channels.size(); i++) {
+            OutboundBatcher.flush(channels.get(i));
+        }
+    }
+
+    @Override
+    public void tickNonEssential(long tick) {
+        for (int i = 0; i < monsters.size(); i++) {
+            monsters.get(i).tickNonEssential(tick);
+        }
+
+        for (int i = 0; i < npcs.size(); i++) {
+            npcs.get(i).tickNonEssential(tick);
+        }
+    }
+
+    public void setInterestListener(IInterestListener interestListener) {
+        this.interestListener = interestListener;
+    }
+
+    public void execute(Runnable task) {
+        if (executor.inEventLoop()) {
+            task.run();
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    public void join(PlayerAvatar playerAvatar) {
+        playerAvatar.setArea(this);
+
+        execute(() -> {
+            players.add(playerAvatar);
+            channels.add(playerAvatar.channel());
+        });
+    }
+
+    public void leave(PlayerAvatar playerAvatar) {
+        execute(() -> {
+            if (!players.remove(playerAvatar)) {
+                return;
+            }
+
+            channels.remove(playerAvatar.channel());
+            removeFromGrid(playerAvatar);
+            replicator.remove(playerAvatar);
+
+            if (reserved.decrementAndGet() == 0 && reserved.compareAndSet(0, CLOSED)) {
+                if (tickTask != null) {
+                    tickTask.cancel();
+                }
+
+                AreaController.close(this);
+            }
+        });
+    }
+
+    public void spawn(MonsterAvatar monsterAvatar) {
+        execute(() -> monsters.add(monsterAvatar));
+    }
+
+    public void despawn(MonsterAvatar monsterAvatar) {
+        execute(() -> {
+            monsters.remove(monsterAvatar);
+            removeFromGrid(monsterAvatar);
+        });
+    }
+
+    public void spawn(NPCAvatar npcAvatar) {
+        execute(() -> npcs.add(npcAvatar));
+    }
+
+    public void despawn(NPCAvatar npcAvatar) {
+        execute(() -> {
+            npcs.remove(npcAvatar);
+            removeFromGrid(npcAvatar);
+        });
+    }
+
+    public void resync(PlayerAvatar playerAvatar) {
+        execute(() -> replicator.resync(playerAvatar));
+    }
+
+    public void move(Avatar<?> avatar, AreaFrame frame, int x, int y) {
+        execute(() -> {
+            AreaFrame previous = avatar.frame();
+
+            if (previous != null && previous.getId() != frame.getId()) {
+                removeFromGrid(avatar);
+            }
+
+            avatar.setPosition(frame, x, y);
+            grid(frame).move(avatar, x, y);
+        });
+    }
+
+    public void dispatchNearby(Message message, Avatar<?> subject) {
+        execute(() -> {
+            InterestGrid grid = subject.frame() == null ? null : grids.get(subject.frame().getId());
+
+            if (grid == null) {
+                return;
+            }
+
+            grid.observers(subject, observers);
+
+            for (Avatar<?> observer : observers) {
+                if (observer instanceof PlayerAvatar playerAvatar) {
+                    nearby.add(playerAvatar.channel());
+                }
+            }
+
+            try {
+                NetworkEncoder.dispatch(message, nearby, Priority.LOW);
+            } finally {
+                observers.clear();
+                nearby.clear();
+            }
+        });
+    }
+
+    public void dispatch(Message message) {
+        execute(() -> NetworkEncoder.dispatch(message, channels));
+    }
+
+    public void dispatchExcept(Message message, PlayerAvatar exceptPlayer) {
+        execute(() -> NetworkEncoder.dispatchExcept(message, exceptPlayer.channel(), channels));
+    }
+
+    private InterestGrid grid(AreaFrame frame) {
+        return grids.computeIfAbsent(frame.getId(), key -> {
+            WorldData world = Config.singleton().world();
+            return new InterestGrid(world.interestCellSize(), world.interestRadius(), forwarder);
+        });
+    }
+
+    private void removeFromGrid(Avatar<?> avatar) {
+        InterestGrid grid = avatar.frame() == null ? null : grids.get(avatar.frame().getId());
+
+        if (grid != null) {
+            grid.remove(avatar);
+        }
+    }
+
+    public boolean tryReserve() {
+        int current;
+
+        do {
+            current = reserved.get();
+
+            if (current == CLOSED || current >= capacity) {
+                return false;
+            }
+        } while (!reserved.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+}
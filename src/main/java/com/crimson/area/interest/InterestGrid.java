@@ -0,0 +1,181 @@
+package com.crimson.area.interest;
+
+import com.crimson.avatar.Avatar;
+import com.crimson.interfaces.IInterestListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class InterestGrid {
+
+    private final int cellSize;
+    private final int radius;
+    private final IInterestListener listener;
+
+    private final Map<Long, List<Avatar<?>>> cells = new HashMap<>();
+    private final Map<Avatar<?>, Long> locations = new HashMap<>();
+
+    public InterestGrid(int cellSize, int radius, IInterestListener listener) {
+        this.cellSize = cellSize;
+        this.radius = radius;
+        this.listener = listener;
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    public boolean contains(Avatar<?> avatar) {
+        return locations.containsKey(avatar);
+    }
+
+    public void add(Avatar<?> avatar, int x, int y) {
+        if (locations.containsKey(avatar)) {
+            move(avatar, x, y);
+            return;
+        }
+
+        int cellX = cell(x);
+        int cellY = cell(y);
+
+        forEachNeighbour(cellX, cellY, other -> {
+            listener.onEnter(other, avatar);
+            listener.onEnter(avatar, other);
+        });
+
+        place(avatar, key(cellX, cellY));
+    }
+
+    public void remove(Avatar<?> avatar) {
+        Long key = locations.remove(avatar);
+
+        if (key == null) {
+            return;
+        }
+
+        unplace(avatar, key);
+
+        forEachNeighbour(cellX(key), cellY(key), other -> {
+            listener.onLeave(other, avatar);
+            listener.onLeave(avatar, other);
+        });
+    }
+
+    public void move(Avatar<?> avatar, int x, int y) {
+        Long previous = locations.get(avatar);
+
+        if (previous == null) {
+            add(avatar, x, y);
+            return;
+        }
+
+        int cellX = cell(x);
+        int cellY = cell(y);
+        long key = key(cellX, cellY);
+
+        if (previous == key) {
+            return;
+        }
+
+        int previousX = cellX(previous);
+        int previousY = cellY(previous);
+
+        unplace(avatar, previous);
+
+        for (int cx = previousX - radius; cx <= previousX + radius; cx++) {
+            for (int cy = previousY - radius; cy <= previousY + radius; cy++) {
+                if (Math.abs(cx - cellX) > radius || Math.abs(cy - cellY) > radius) {
+                    forEachIn(key(cx, cy), other -> {
+                        listener.onLeave(other, avatar);
+                        listener.onLeave(avatar, other);
+                    });
+                }
+            }
+        }
+
+        for (int cx = cellX - radius; cx <= cellX + radius; cx++) {
+            for (int cy = cellY - radius; cy <= cellY + radius; cy++) {
+                if (Math.abs(cx - previousX) > radius || Math.abs(cy - previousY) > radius) {
+                    forEachIn(key(cx, cy), other -> {
+                        listener.onEnter(other, avatar);
+                        listener.onEnter(avatar, other);
+                    });
+                }
+            }
+        }
+
+        place(avatar, key);
+    }
+
+    public void observers(Avatar<?> subject, List<Avatar<?>> out) {
+        Long key = locations.get(subject);
+
+        if (key == null) {
+            return;
+        }
+
+        forEachNeighbour(cellX(key), cellY(key), other -> {
+            if (other != subject) {
+                out.add(other);
+            }
+        });
+    }
+
+    private void forEachNeighbour(int cellX, int cellY, java.util.function.Consumer<Avatar<?>> consumer) {
+        for (int cx = cellX - radius; cx <= cellX + radius; cx++) {
+            for (int cy = cellY - radius; cy <= cellY + radius; cy++) {
+                forEachIn(key(cx, cy), consumer);
+            }
+        }
+    }
+
+    private void forEachIn(long key, java.util.function.Consumer<Avatar<?>> consumer) {
+        List<Avatar<?>> avatars = cells.get(key);
+
+        if (avatars == null) {
+            return;
+        }
+
+        for (int i = 0; i < avatars.size(); i++) {
+            consumer.accept(avatars.get(i));
+        }
+    }
+
+    private void place(Avatar<?> avatar, long key) {
+        cells.computeIfAbsent(key, k -> new ArrayList<>()).add(avatar);
+        locations.put(avatar, key);
+    }
+
+    private void unplace(Avatar<?> avatar, long key) {
+        List<Avatar<?>> avatars = cells.get(key);
+
+        if (avatars == null) {
+            return;
+        }
+
+        avatars.remove(avatar);
+
+        if (avatars.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    private int cell(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private static int cellX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int cellY(long key) {
+        return (int) key;
+    }
+
+}
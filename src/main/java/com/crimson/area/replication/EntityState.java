@@ -0,0 +1,90 @@
+package com.crimson.area.replication;
+
+import com.crimson.network.message.Message;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class EntityState {
+
+    public static final int FULL = -1;
+
+    private static final AtomicInteger IDS = new AtomicInteger(0);
+
+    private final int id = IDS.incrementAndGet();
+    private final ReplicationSchema schema;
+    private final Object[] values;
+    private final int[] versions;
+
+    private int version;
+
+    public EntityState(ReplicationSchema schema) {
+        this.schema = schema;
+        this.values = new Object[schema.size()];
+        this.versions = new int[schema.size()];
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public ReplicationSchema schema() {
+        return schema;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public Object get(int field) {
+        return values[field];
+    }
+
+    public void set(int field, Object value) {
+        if (Objects.equals(values[field], value)) {
+            return;
+        }
+
+        values[field] = value;
+        versions[field] = ++version;
+    }
+
+    public long dirtyMask(int baseline) {
+        long mask = 0;
+
+        for (int i = 0; i < versions.length; i++) {
+            if (versions[i] > baseline) {
+                mask |= 1L << i;
+            }
+        }
+
+        return mask;
+    }
+
+    public Message full() {
+        return new Message(3)
+            .element("id", id)
+            .element("t", schema.type())
+            .element("v", Arrays.asList(values.clone()));
+    }
+
+    public Message delta(int baseline) {
+        long mask = dirtyMask(baseline);
+        List<Object> array = new ArrayList<>(Long.bitCount(mask));
+
+        for (int i = 0; i < values.length; i++) {
+            if ((mask & (1L << i)) != 0) {
+                array.add(values[i]);
+            }
+        }
+
+        return new Message(3)
+            .element("id", id)
+            .element("m", mask)
+            .element("v", array);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.crimson.area.replication;
+
+public record ReplicationSchema(String type, String... fields) {
+
+    public static final int FRAME = 0;
+    public static final int X = 1;
+    public static final int Y = 2;
+    public static final int HP = 3;
+    public static final int MP = 4;
+    public static final int STATE = 5;
+    public static final int NAME = 6;
+
+    public static final ReplicationSchema PLAYER = new ReplicationSchema("player", "frame", "x", "y", "hp", "mp", "state", "name");
+    public static final ReplicationSchema MONSTER = new ReplicationSchema("monster", "frame", "x", "y", "hp", "mp", "state");
+    public static final ReplicationSchema NPC = new ReplicationSchema("npc", "frame", "x", "y", "hp", "mp", "state");
+
+    public ReplicationSchema {
+        if (fields.length > Long.SIZE) {
+            throw new IllegalArgumentException("Schema '" + type + "' has " + fields.length + " fields, at most " + Long.SIZE + " are supported");
+        }
+    }
+
+    public int size() {
+        return fields.length;
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.crimson.area.replication;
+
+import com.crimson.avatar.Avatar;
+import com.crimson.interfaces.IDispatchable;
+import com.crimson.interfaces.IInterestListener;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Metrics;
+import com.crimson.network.message.Message;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class Replicator implements IInterestListener {
+
+    private static final Counter SNAPSHOTS = Metrics.counter("replication.snapshots");
+    private static final Counter DELTAS = Metrics.counter("replication.deltas");
+    private static final Counter MESSAGES = Metrics.counter("replication.messages");
+    private static final Counter DEFERRED = Metrics.counter("replication.deferred");
+
+    private final Map<Avatar<?>, View> views = new HashMap<>();
+
+    private final Map<EntityState, Message> snapshots = new HashMap<>();
+    private final Map<EntityState, Fragment> deltas = new HashMap<>();
+
+    @Override
+    public void onEnter(Avatar<?> observer, Avatar<?> subject) {
+        if (observer instanceof IDispatchable dispatchable) {
+            View view = views.computeIfAbsent(observer, key -> new View(dispatchable));
+
+            if (!view.leaving.remove(Integer.valueOf(subject.state().id()))) {
+                view.entering.add(subject);
+            }
+
+            view.baselines.put(subject, EntityState.FULL);
+        }
+    }
+
+    @Override
+    public void onLeave(Avatar<?> observer, Avatar<?> subject) {
+        View view = views.get(observer);
+
+        if (view != null && view.baselines.remove(subject) != null && !view.entering.remove(subject)) {
+            view.leaving.add(subject.state().id());
+        }
+    }
+
+    public void remove(Avatar<?> observer) {
+        views.remove(observer);
+    }
+
+    public void resync(Avatar<?> observer) {
+        View view = views.get(observer);
+
+        if (view != null) {
+            view.baselines.replaceAll((subject, baseline) -> EntityState.FULL);
+        }
+    }
+
+    public void replicate(long tick) {
+        try {
+            for (View view : views.values()) {
+                replicate(view, tick);
+            }
+        } finally {
+            snapshots.clear();
+            deltas.clear();
+        }
+    }
+
+    private void replicate(View view, long tick) {
+        if (!view.target.isWritable()) {
+            DEFERRED.increment();
+            return;
+        }
+
+        List<Object> enter = null;
+        List<Object> update = null;
+
+        for (Map.Entry<Avatar<?>, Integer> entry : view.baselines.entrySet()) {
+            EntityState state = entry.getKey().state();
+            int baseline = entry.getValue();
+
+            if (baseline == EntityState.FULL) {
+                if (enter == null) {
+                    enter = new ArrayList<>();
+                }
+
+                enter.add(snapshots.computeIfAbsent(state, EntityState::full));
+                SNAPSHOTS.increment();
+            } else if (state.version() > baseline) {
+                if (update == null) {
+                    update = new ArrayList<>();
+                }
+
+                update.add(delta(state, baseline));
+                DELTAS.increment();
+            } else {
+                continue;
+            }
+
+            entry.setValue(state.version());
+        }
+
+        view.entering.clear();
+
+        if (enter == null && update == null && view.leaving.isEmpty()) {
+            return;
+        }
+
+        Message message = new Message(5)
+            .element("type", "replicate")
+            .element("tick", tick);
+
+        if (enter != null) {
+            message.element("enter", enter);
+        }
+
+        if (update != null) {
+            message.element("update", update);
+        }
+
+        if (!view.leaving.isEmpty()) {
+            message.element("leave", view.leaving);
+            view.leaving = new ArrayList<>();
+        }
+
+        view.target.dispatch(message);
+        MESSAGES.increment();
+    }
+
+    private Message delta(EntityState state, int baseline) {
+        Fragment fragment = deltas.get(state);
+
+        if (fragment != null && fragment.baseline() == baseline) {
+            return fragment.delta();
+        }
+
+        Message delta = state.delta(baseline);
+
+        if (fragment == null) {
+            deltas.put(state, new Fragment(baseline, delta));
+        }
+
+        return delta;
+    }
+
+    private record Fragment(int baseline, Message delta) {
+    }
+
+    private static final class View {
+
+        private final IDispatchable target;
+        private final Map<Avatar<?>, Integer> baselines = new HashMap<>();
+        private final Set<Avatar<?>> entering = new HashSet<>();
+
+        private List<Integer> leaving = new ArrayList<>();
+
+        private View(IDispatchable target) {
+            this.target = target;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.crimson.area.tick;
+
+import com.crimson.config.Config;
+import com.crimson.interfaces.ITickable;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+public final class TickScheduler {
+
+    static final Histogram DURATION = Metrics.histogram("tick.duration");
+    static final Histogram LAG = Metrics.histogram("tick.lag");
+
+    static final Counter OVERRUN = Metrics.counter("tick.overrun");
+    static final Counter SKIPPED = Metrics.counter("tick.skipped");
+    static final Counter DEGRADED = Metrics.counter("tick.degraded");
+
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(1) / Config.singleton().world().tickRate();
+
+    static {
+        Metrics.gauge("tick.p50", () -> DURATION.percentile(50));
+        Metrics.gauge("tick.p99", () -> DURATION.percentile(99));
+    }
+
+    private TickScheduler() {
+    }
+
+    public static long period() {
+        return PERIOD;
+    }
+
+    public static TickTask schedule(ITickable tickable, EventExecutor executor) {
+        TickTask task = new TickTask(tickable, executor, PERIOD);
+        task.start();
+        return task;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.crimson.area.tick;
+
+import com.crimson.interfaces.ITickable;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+public final class TickTask implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(TickTask.class);
+
+    private final ITickable tickable;
+    private final EventExecutor executor;
+    private final long period;
+
+    private long tick;
+    private long deadline;
+    private boolean degraded;
+
+    private volatile boolean cancelled;
+
+    TickTask(ITickable tickable, EventExecutor executor, long period) {
+        this.tickable = tickable;
+        this.executor = executor;
+        this.period = period;
+        this.deadline = System.nanoTime() + period;
+    }
+
+    public long tick() {
+        return tick;
+    }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    void start() {
+        executor.schedule(this, period, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void run() {
+        if (cancelled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long missed = (start - deadline) / period;
+
+        if (missed > 0) {
+            TickScheduler.SKIPPED.add(missed);
+            tick += missed;
+            deadline += missed * period;
+        }
+
+        TickScheduler.LAG.record(start - deadline);
+
+        try {
+            tickable.tick(tick);
+
+            if (degraded) {
+                TickScheduler.DEGRADED.increment();
+            } else {
+                tickable.tickNonEssential(tick);
+            }
+        } catch (Throwable throwable) {
+            log.error("Tick {} of {} failed", tick, tickable, throwable);
+        } finally {
+            long duration = System.nanoTime() - start;
+
+            TickScheduler.DURATION.record(duration);
+
+            degraded = duration > period;
+
+            if (degraded) {
+                TickScheduler.OVERRUN.increment();
+            }
+
+            tick++;
+            deadline += period;
+
+            if (!cancelled) {
+                executor.schedule(this, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+}
@@ -1,13 +1,57 @@
 package com.crimson.avatar;
 
+import com.crimson.area.replication.EntityState;
+import com.crimson.area.replication.ReplicationSchema;
 import com.crimson.bakuretsu.models.avatar.IAvatarData;
+import com.crimson.bakuretsu.models.frame.AreaFrame;
+import com.crimson.interfaces.ITickable;
 
-public abstract class Avatar<D extends IAvatarData> {
+public abstract class Avatar<D extends IAvatarData> implements ITickable {
+
+    private final EntityState state;
+
+    private volatile AreaFrame frame;
+    private volatile int x;
+    private volatile int y;
+
+    protected Avatar(ReplicationSchema schema) {
+        this.state = new EntityState(schema);
+    }
 
     public abstract D data();
 
+    public EntityState state() {
+        return state;
+    }
+
+    public AreaFrame frame() {
+        return frame;
+    }
+
+    public int x() {
+        return x;
+    }
+
+    public int y() {
+        return y;
+    }
+
+    public void setPosition(AreaFrame frame, int x, int y) {
+        this.frame = frame;
+        this.x = x;
+        this.y = y;
+
+        state.set(ReplicationSchema.FRAME, frame.getName());
+        state.set(ReplicationSchema.X, x);
+        state.set(ReplicationSchema.Y, y);
+    }
+
+    @Override
+    public void tick(long tick) {
+    }
+
     public boolean doesNotExist() {
-        return this.equals(Avatar.NONE);
+        return false;
     }
 
     public boolean doesExist() {
@@ -1,11 +1,11 @@
 package com.crimson.avatar;
 
+import com.crimson.network.message.Message;
 import io.netty.channel.Channel;
-import org.json.JSONObject;
 
 public record AvatarNetwork(int networkId, String name, Channel channel) {
 
-    public void dispatch(JSONObject jsonObject) {
+    public void dispatch(Message message) {
     }
 
     public void disconnect() {
@@ -1,10 +1,15 @@
 package com.crimson.avatar.monster;
 
+import com.crimson.area.replication.ReplicationSchema;
 import com.crimson.avatar.Avatar;
 import com.crimson.bakuretsu.models.avatar.monster.Monster;
 
 public class MonsterAvatar extends Avatar<Monster> {
 
+	public MonsterAvatar() {
+		super(ReplicationSchema.MONSTER);
+	}
+
 	@Override
 	public Monster data() {
 		return null;
@@ -1,10 +1,15 @@
 package com.crimson.avatar.npc;
 
+import com.crimson.area.replication.ReplicationSchema;
 import com.crimson.avatar.Avatar;
 import com.crimson.bakuretsu.models.avatar.npc.NPC;
 
 public class NPCAvatar extends Avatar<NPC> {
 
+	public NPCAvatar() {
+		super(ReplicationSchema.NPC);
+	}
+
 	@Override
 	public NPC data() {
 		return null;
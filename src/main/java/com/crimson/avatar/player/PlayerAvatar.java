@@ -1,24 +1,37 @@
 package com.crimson.avatar.player;
 
+import com.crimson.area.AreaInstance;
+import com.crimson.area.replication.ReplicationSchema;
 import com.crimson.avatar.Avatar;
-import com.crimson.bakuretsu.models.user.User;
+import com.crimson.bakuretsu.models.avatar.character.Character;
 import com.crimson.interfaces.IDispatchable;
 import com.crimson.network.encoder.NetworkEncoder;
+import com.crimson.network.message.Message;
+import com.crimson.requests.executor.Mailbox;
+import com.crimson.requests.limiter.RateLimiter;
 import io.netty.channel.Channel;
-import net.sf.json.JSONObject;
 
-public class PlayerAvatar extends Avatar<User> implements IDispatchable {
+public final class PlayerAvatar extends Avatar<Character> implements IDispatchable {
+
+	public static final PlayerAvatar NONE = new PlayerAvatar(-1, "", null, null);
 
 	private final int networkId;
 	private final String name;
 	private final Channel channel;
-	private final User data;
+	private final Character data;
+	private final RateLimiter rateLimiter = new RateLimiter();
+
+	private volatile AreaInstance area;
+
+	public PlayerAvatar(int networkId, String name, Channel channel, Character data) {
+		super(ReplicationSchema.PLAYER);
 
-	public PlayerAvatar(int networkId, String name, Channel channel, User data) {
 		this.networkId = networkId;
 		this.name = name;
 		this.channel = channel;
 		this.data = data;
+
+		state().set(ReplicationSchema.NAME, name);
 	}
 
 	public int networkId() {
@@ -33,14 +46,40 @@ public class PlayerAvatar extends Avatar<User> implements IDispatchable {
 		return channel;
 	}
 
+	public AreaInstance area() {
+		return area;
+	}
+
+	public void setArea(AreaInstance area) {
+		this.area = area;
+	}
+
+	public RateLimiter rateLimiter() {
+		return rateLimiter;
+	}
+
+	public Mailbox mailbox() {
+		return channel.attr(Mailbox.KEY).get();
+	}
+
 	@Override
-	public User data() {
+	public Character data() {
 		return this.data;
 	}
 
 	@Override
-	public void dispatch(JSONObject params) {
+	public boolean doesNotExist() {
+		return this == NONE;
+	}
+
+	@Override
+	public void dispatch(Message params) {
 		NetworkEncoder.dispatch(params, channel());
 	}
 
+	@Override
+	public boolean isWritable() {
+		return channel.isWritable();
+	}
+
 }
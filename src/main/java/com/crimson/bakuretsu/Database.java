@@ -2,6 +2,7 @@ package com.crimson.bakuretsu;
 
 import com.crimson.bakuretsu.core.Model;
 import com.crimson.config.Config;
+import com.crimson.metrics.Metrics;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -61,16 +62,9 @@ public class Database {
         config.setRegisterMbeans(true);
         config.setPoolName("Game");
 
-        config.addDataSourceProperty("cachePrepStmts", "true");
-        config.addDataSourceProperty("prepStmtCacheSize", "250");
-        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-        config.addDataSourceProperty("useServerPrepStmts", "true");
-        config.addDataSourceProperty("useLocalSessionState", "true");
-        config.addDataSourceProperty("rewriteBatchedStatements", "true");
-        config.addDataSourceProperty("cacheResultSetMetadata", "true");
-        config.addDataSourceProperty("cacheServerConfiguration", "true");
-        config.addDataSourceProperty("elideSetAutoCommits", "true");
-        config.addDataSourceProperty("maintainTimeStats", "false");
+        if (config.getJdbcUrl().startsWith("jdbc:mariadb:") || config.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            configureMariaDb(config);
+        }
 
         hikariDataSource = new HikariDataSource(config);
 
@@ -81,9 +75,26 @@ public class Database {
         try {
             ObjectName poolName = new ObjectName("com.zaxxer.hikari:type=Pool (Game)");
             poolProxy = JMX.newMXBeanProxy(mBeanServer, poolName, HikariPoolMXBean.class);
+
+            Metrics.gauge("db.pool.active", () -> poolProxy.getActiveConnections());
+            Metrics.gauge("db.pool.idle", () -> poolProxy.getIdleConnections());
+            Metrics.gauge("db.pool.waiting", () -> poolProxy.getThreadsAwaitingConnection());
         } catch (MalformedObjectNameException e) {
             e.printStackTrace();
         }
     }
 
+    private static void configureMariaDb(HikariConfig config) {
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("useLocalSessionState", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        config.addDataSourceProperty("cacheResultSetMetadata", "true");
+        config.addDataSourceProperty("cacheServerConfiguration", "true");
+        config.addDataSourceProperty("elideSetAutoCommits", "true");
+        config.addDataSourceProperty("maintainTimeStats", "false");
+    }
+
 }
@@ -0,0 +1,354 @@
+package com.crimson.bakuretsu.accessor;
+
+import com.crimson.bakuretsu.core.ModelMetadata;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.*;
+
+// Hidden nestmate class of the model, so private fields and the constructor need no reflection
+final class AccessorGenerator {
+
+	private static final String ACCESSOR = Type.getInternalName(ModelAccessor.class);
+	private static final String READERS = Type.getInternalName(ColumnReaders.class);
+	private static final String STATEMENT = Type.getInternalName(PreparedStatement.class);
+	private static final String RESULT_SET = Type.getDescriptor(ResultSet.class);
+	private static final String OBJECT = "java/lang/Object";
+
+	private AccessorGenerator() {
+	}
+
+	static ModelAccessor generate(Class<?> clazz, ModelMetadata metadata) throws Throwable {
+		for (Field field : metadata.fields) {
+			checkAccessible(clazz, field);
+		}
+
+		String owner = Type.getInternalName(clazz);
+		String name = owner + "$Accessor";
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+			@Override
+			protected String getCommonSuperClass(String type1, String type2) {
+				return OBJECT;
+			}
+		};
+
+		cw.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, null, OBJECT, new String[]{ACCESSOR});
+
+		constructor(cw);
+		newInstance(cw, owner);
+		getId(cw, owner, metadata.idField);
+		setId(cw, owner, metadata.idField);
+		get(cw, owner, metadata.fields);
+		set(cw, owner, metadata.fields);
+		bind(cw, owner, metadata.fields, metadata.insertFields);
+		hydrate(cw, owner, metadata.fields);
+
+		cw.visitEnd();
+
+		MethodHandles.Lookup hidden = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup())
+			.defineHiddenClass(cw.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+
+		return (ModelAccessor) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+	}
+
+	private static void checkAccessible(Class<?> clazz, Field field) {
+		Class<?> type = field.getType();
+
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+
+		if (type.isPrimitive()) {
+			if (ColumnReaders.readerName(type) == null) {
+				throw new IllegalArgumentException("Unsupported primitive field " + field.getName() + " of type " + type);
+			}
+
+			return;
+		}
+
+		if (!Modifier.isPublic(type.getModifiers()) && !type.getPackageName().equals(clazz.getPackageName())) {
+			throw new IllegalArgumentException("Field type " + type.getName() + " is not accessible from " + clazz.getName());
+		}
+	}
+
+	private static void constructor(ClassWriter cw) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void newInstance(ClassWriter cw, String owner) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "newInstance", "()Ljava/lang/Object;", null, null);
+		mv.visitCode();
+		mv.visitTypeInsn(NEW, owner);
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", "()V", false);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void getId(ClassWriter cw, String owner, Field id) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getId", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, owner);
+		getField(mv, owner, id);
+		box(mv, id.getType());
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void setId(ClassWriter cw, String owner, Field id) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "setId", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, owner);
+		mv.visitVarInsn(ALOAD, 2);
+		unbox(mv, id.getType());
+		putField(mv, owner, id);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void get(ClassWriter cw, String owner, List<Field> fields) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, owner);
+		mv.visitVarInsn(ASTORE, 3);
+
+		Label[] labels = labels(fields.size());
+		Label outOfBounds = new Label();
+
+		mv.visitVarInsn(ILOAD, 2);
+		mv.visitTableSwitchInsn(0, fields.size() - 1, outOfBounds, labels);
+
+		for (int i = 0; i < fields.size(); i++) {
+			mv.visitLabel(labels[i]);
+			mv.visitVarInsn(ALOAD, 3);
+			getField(mv, owner, fields.get(i));
+			box(mv, fields.get(i).getType());
+			mv.visitInsn(ARETURN);
+		}
+
+		mv.visitLabel(outOfBounds);
+		outOfBounds(mv);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void set(ClassWriter cw, String owner, List<Field> fields) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, owner);
+		mv.visitVarInsn(ASTORE, 4);
+
+		Label[] labels = labels(fields.size());
+		Label outOfBounds = new Label();
+
+		mv.visitVarInsn(ILOAD, 2);
+		mv.visitTableSwitchInsn(0, fields.size() - 1, outOfBounds, labels);
+
+		for (int i = 0; i < fields.size(); i++) {
+			mv.visitLabel(labels[i]);
+			mv.visitVarInsn(ALOAD, 4);
+			mv.visitVarInsn(ALOAD, 3);
+			unbox(mv, fields.get(i).getType());
+			putField(mv, owner, fields.get(i));
+			mv.visitInsn(RETURN);
+		}
+
+		mv.visitLabel(outOfBounds);
+		outOfBounds(mv);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	// Each field is read once, so the value recorded in bound is exactly the one sent to the driver
+	private static void bind(ClassWriter cw, String owner, List<Field> all, List<Field> fields) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "bind", "(Ljava/lang/Object;" + Type.getDescriptor(PreparedStatement.class) + "I[Ljava/lang/Object;)V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, owner);
+		mv.visitVarInsn(ASTORE, 5);
+
+		for (int i = 0; i < fields.size(); i++) {
+			Field field = fields.get(i);
+			Class<?> type = field.getType();
+			Type local = Type.getType(type);
+
+			mv.visitVarInsn(ALOAD, 5);
+			getField(mv, owner, field);
+			mv.visitVarInsn(local.getOpcode(ISTORE), 6);
+
+			mv.visitVarInsn(ALOAD, 4);
+			push(mv, all.indexOf(field));
+			mv.visitVarInsn(local.getOpcode(ILOAD), 6);
+			box(mv, type);
+			mv.visitInsn(AASTORE);
+
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitVarInsn(ILOAD, 3);
+			push(mv, i + 1);
+			mv.visitInsn(IADD);
+			mv.visitVarInsn(local.getOpcode(ILOAD), 6);
+
+			String setter = switch (type.getName()) {
+				case "int" -> "setInt";
+				case "long" -> "setLong";
+				case "double" -> "setDouble";
+				case "float" -> "setFloat";
+				case "short" -> "setShort";
+				case "byte" -> "setByte";
+				case "boolean" -> "setBoolean";
+				default -> null;
+			};
+
+			if (setter == null) {
+				box(mv, type);
+				mv.visitMethodInsn(INVOKEINTERFACE, STATEMENT, "setObject", "(ILjava/lang/Object;)V", true);
+			} else {
+				mv.visitMethodInsn(INVOKEINTERFACE, STATEMENT, setter, "(I" + Type.getDescriptor(type) + ")V", true);
+			}
+		}
+
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void hydrate(ClassWriter cw, String owner, List<Field> fields) {
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "hydrate", "(Ljava/lang/Object;" + RESULT_SET + "[I)V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, owner);
+		mv.visitVarInsn(ASTORE, 4);
+
+		for (int i = 0; i < fields.size(); i++) {
+			Field field = fields.get(i);
+			Class<?> type = field.getType();
+			String reader = ColumnReaders.readerName(type);
+
+			mv.visitVarInsn(ALOAD, 4);
+
+			if (reader == null) {
+				mv.visitLdcInsn(Type.getType(type));
+			}
+
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitVarInsn(ALOAD, 3);
+			push(mv, i);
+			mv.visitInsn(IALOAD);
+
+			if (reader == null) {
+				mv.visitMethodInsn(INVOKESTATIC, READERS, "readObject", "(Ljava/lang/Class;" + RESULT_SET + "I)Ljava/lang/Object;", false);
+				mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+			} else {
+				mv.visitMethodInsn(INVOKESTATIC, READERS, reader, "(" + RESULT_SET + "I)" + Type.getDescriptor(type), false);
+			}
+
+			putField(mv, owner, field);
+		}
+
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	//region Helpers
+	private static Label[] labels(int size) {
+		Label[] labels = new Label[size];
+
+		for (int i = 0; i < size; i++) {
+			labels[i] = new Label();
+		}
+
+		return labels;
+	}
+
+	private static void outOfBounds(MethodVisitor mv) {
+		mv.visitTypeInsn(NEW, "java/lang/IndexOutOfBoundsException");
+		mv.visitInsn(DUP);
+		mv.visitVarInsn(ILOAD, 2);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IndexOutOfBoundsException", "<init>", "(I)V", false);
+		mv.visitInsn(ATHROW);
+	}
+
+	private static void getField(MethodVisitor mv, String owner, Field field) {
+		mv.visitFieldInsn(GETFIELD, owner, field.getName(), Type.getDescriptor(field.getType()));
+	}
+
+	private static void putField(MethodVisitor mv, String owner, Field field) {
+		mv.visitFieldInsn(PUTFIELD, owner, field.getName(), Type.getDescriptor(field.getType()));
+	}
+
+	private static void push(MethodVisitor mv, int value) {
+		if (value <= 5) {
+			mv.visitInsn(ICONST_0 + value);
+		} else if (value <= Byte.MAX_VALUE) {
+			mv.visitIntInsn(BIPUSH, value);
+		} else if (value <= Short.MAX_VALUE) {
+			mv.visitIntInsn(SIPUSH, value);
+		} else {
+			mv.visitLdcInsn(value);
+		}
+	}
+
+	private static void box(MethodVisitor mv, Class<?> type) {
+		if (!type.isPrimitive()) {
+			return;
+		}
+
+		Type primitive = Type.getType(type);
+		String wrapper = wrapper(type);
+
+		mv.visitMethodInsn(INVOKESTATIC, wrapper, "valueOf", "(" + primitive.getDescriptor() + ")L" + wrapper + ";", false);
+	}
+
+	private static void unbox(MethodVisitor mv, Class<?> type) {
+		if (!type.isPrimitive()) {
+			mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+			return;
+		}
+
+		String wrapper = wrapper(type);
+
+		mv.visitTypeInsn(CHECKCAST, wrapper);
+		mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + Type.getDescriptor(type), false);
+	}
+
+	private static String wrapper(Class<?> type) {
+		return switch (type.getName()) {
+			case "int" -> "java/lang/Integer";
+			case "long" -> "java/lang/Long";
+			case "double" -> "java/lang/Double";
+			case "float" -> "java/lang/Float";
+			case "short" -> "java/lang/Short";
+			case "byte" -> "java/lang/Byte";
+			case "boolean" -> "java/lang/Boolean";
+			case "char" -> "java/lang/Character";
+			default -> throw new IllegalArgumentException("Not a primitive type: " + type);
+		};
+	}
+	//endregion
+
+}
@@ -0,0 +1,199 @@
+package com.crimson.bakuretsu.accessor;
+
+import com.crimson.exceptions.InvalidFieldValueException;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Primitive readers only check wasNull on a zero value, and reject SQL NULL
+public final class ColumnReaders {
+
+	private ColumnReaders() {
+	}
+
+	// Null when the type goes through readObject
+	public static String readerName(Class<?> type) {
+		return switch (type.getName()) {
+			case "int" -> "readInt";
+			case "long" -> "readLong";
+			case "double" -> "readDouble";
+			case "float" -> "readFloat";
+			case "short" -> "readShort";
+			case "byte" -> "readByte";
+			case "boolean" -> "readBoolean";
+			case "java.lang.Integer" -> "readInteger";
+			case "java.lang.Long" -> "readLongObject";
+			case "java.lang.Double" -> "readDoubleObject";
+			case "java.lang.Float" -> "readFloatObject";
+			case "java.lang.Boolean" -> "readBooleanObject";
+			case "java.lang.String" -> "readString";
+			case "java.math.BigDecimal" -> "readBigDecimal";
+			case "java.time.LocalDate" -> "readLocalDate";
+			default -> null;
+		};
+	}
+
+	public static Object read(Class<?> type, ResultSet rs, int index) throws SQLException {
+		return switch (type.getName()) {
+			case "int" -> readInt(rs, index);
+			case "long" -> readLong(rs, index);
+			case "double" -> readDouble(rs, index);
+			case "float" -> readFloat(rs, index);
+			case "short" -> readShort(rs, index);
+			case "byte" -> readByte(rs, index);
+			case "boolean" -> readBoolean(rs, index);
+			case "java.lang.Integer" -> readInteger(rs, index);
+			case "java.lang.Long" -> readLongObject(rs, index);
+			case "java.lang.Double" -> readDoubleObject(rs, index);
+			case "java.lang.Float" -> readFloatObject(rs, index);
+			case "java.lang.Boolean" -> readBooleanObject(rs, index);
+			case "java.lang.String" -> readString(rs, index);
+			case "java.math.BigDecimal" -> readBigDecimal(rs, index);
+			case "java.time.LocalDate" -> readLocalDate(rs, index);
+			default -> readObject(type, rs, index);
+		};
+	}
+
+	public static int readInt(ResultSet rs, int index) throws SQLException {
+		int value = rs.getInt(index);
+
+		if (value == 0 && rs.wasNull()) {
+			throw nullPrimitive(int.class);
+		}
+
+		return value;
+	}
+
+	public static long readLong(ResultSet rs, int index) throws SQLException {
+		long value = rs.getLong(index);
+
+		if (value == 0 && rs.wasNull()) {
+			throw nullPrimitive(long.class);
+		}
+
+		return value;
+	}
+
+	public static double readDouble(ResultSet rs, int index) throws SQLException {
+		double value = rs.getDouble(index);
+
+		if (value == 0 && rs.wasNull()) {
+			throw nullPrimitive(double.class);
+		}
+
+		return value;
+	}
+
+	public static float readFloat(ResultSet rs, int index) throws SQLException {
+		float value = rs.getFloat(index);
+
+		if (value == 0 && rs.wasNull()) {
+			throw nullPrimitive(float.class);
+		}
+
+		return value;
+	}
+
+	public static short readShort(ResultSet rs, int index) throws SQLException {
+		short value = rs.getShort(index);
+
+		if (value == 0 && rs.wasNull()) {
+			throw nullPrimitive(short.class);
+		}
+
+		return value;
+	}
+
+	public static byte readByte(ResultSet rs, int index) throws SQLException {
+		byte value = rs.getByte(index);
+
+		if (value == 0 && rs.wasNull()) {
+			throw nullPrimitive(byte.class);
+		}
+
+		return value;
+	}
+
+	public static boolean readBoolean(ResultSet rs, int index) throws SQLException {
+		boolean value = rs.getBoolean(index);
+
+		if (!value && rs.wasNull()) {
+			throw nullPrimitive(boolean.class);
+		}
+
+		return value;
+	}
+
+	public static Integer readInteger(ResultSet rs, int index) throws SQLException {
+		int value = rs.getInt(index);
+		return value == 0 && rs.wasNull() ? null : value;
+	}
+
+	public static Long readLongObject(ResultSet rs, int index) throws SQLException {
+		long value = rs.getLong(index);
+		return value == 0 && rs.wasNull() ? null : value;
+	}
+
+	public static Double readDoubleObject(ResultSet rs, int index) throws SQLException {
+		double value = rs.getDouble(index);
+		return value == 0 && rs.wasNull() ? null : value;
+	}
+
+	public static Float readFloatObject(ResultSet rs, int index) throws SQLException {
+		float value = rs.getFloat(index);
+		return value == 0 && rs.wasNull() ? null : value;
+	}
+
+	public static Boolean readBooleanObject(ResultSet rs, int index) throws SQLException {
+		boolean value = rs.getBoolean(index);
+		return !value && rs.wasNull() ? null : value;
+	}
+
+	public static String readString(ResultSet rs, int index) throws SQLException {
+		return rs.getString(index);
+	}
+
+	public static BigDecimal readBigDecimal(ResultSet rs, int index) throws SQLException {
+		return rs.getBigDecimal(index);
+	}
+
+	public static LocalDate readLocalDate(ResultSet rs, int index) throws SQLException {
+		Date value = rs.getDate(index);
+		return value == null ? null : value.toLocalDate();
+	}
+
+	public static Object readObject(Class<?> type, ResultSet rs, int index) throws SQLException {
+		Object value = rs.getObject(index);
+
+		if (value == null || type.isInstance(value)) {
+			return value;
+		}
+
+		if (type == UUID.class) {
+			return UUID.fromString(value.toString());
+		}
+
+		if (type == LocalDateTime.class) {
+			return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : LocalDateTime.parse(value.toString());
+		}
+
+		if (type == org.joda.time.LocalDateTime.class) {
+			return org.joda.time.LocalDateTime.parse(value.toString());
+		}
+
+		//TODO: JSON ARRAY Type
+		//TODO: JSON ELEMENT Type
+		return value;
+	}
+
+	private static InvalidFieldValueException nullPrimitive(Class<?> type) {
+		return new InvalidFieldValueException("Cannot assign null to primitive type: " + type.getName());
+	}
+
+}
@@ -0,0 +1,151 @@
+package com.crimson.bakuretsu.accessor;
+
+import com.crimson.bakuretsu.core.ModelMetadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Used when generation is disabled or fails for a model
+final class HandleAccessor implements ModelAccessor {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType ROW_SETTER = MethodType.methodType(void.class, Object.class, ResultSet.class, int.class);
+
+	private final Supplier<?> constructor;
+
+	private final MethodHandle idGetter;
+	private final MethodHandle idSetter;
+
+	private final MethodHandle[] getters;
+	private final MethodHandle[] setters;
+	private final MethodHandle[] insertGetters;
+	private final int[] insertIndices;
+	private final MethodHandle[] rowSetters;
+
+	HandleAccessor(ModelMetadata metadata) {
+		List<Field> fields = metadata.fields;
+
+		this.constructor = metadata.constructor;
+		this.idGetter = metadata.idGetter.asType(GETTER);
+		this.idSetter = metadata.idSetter.asType(SETTER);
+		this.getters = new MethodHandle[fields.size()];
+		this.setters = new MethodHandle[fields.size()];
+		this.rowSetters = new MethodHandle[fields.size()];
+		this.insertGetters = new MethodHandle[metadata.insertFields.size()];
+		this.insertIndices = new int[metadata.insertFields.size()];
+
+		for (int i = 0; i < fields.size(); i++) {
+			Field field = fields.get(i);
+
+			this.getters[i] = metadata.fieldGetters.get(field).asType(GETTER);
+			this.setters[i] = metadata.fieldSetters.get(field).asType(SETTER);
+			this.rowSetters[i] = rowSetter(field, metadata.fieldSetters.get(field));
+		}
+
+		for (int i = 0; i < insertGetters.length; i++) {
+			this.insertGetters[i] = metadata.fieldGetters.get(metadata.insertFields.get(i)).asType(GETTER);
+			this.insertIndices[i] = fields.indexOf(metadata.insertFields.get(i));
+		}
+	}
+
+	@Override
+	public Object newInstance() {
+		return constructor.get();
+	}
+
+	@Override
+	public Object getId(Object entity) {
+		try {
+			return idGetter.invokeExact(entity);
+		} catch (Throwable e) {
+			throw new RuntimeException("Error getting ID", e);
+		}
+	}
+
+	@Override
+	public void setId(Object entity, Object id) {
+		try {
+			idSetter.invokeExact(entity, id);
+		} catch (Throwable e) {
+			throw new RuntimeException("Error setting ID", e);
+		}
+	}
+
+	@Override
+	public Object get(Object entity, int field) {
+		try {
+			return getters[field].invokeExact(entity);
+		} catch (Throwable e) {
+			throw new RuntimeException("Error getting field " + field, e);
+		}
+	}
+
+	@Override
+	public void set(Object entity, int field, Object value) {
+		try {
+			setters[field].invokeExact(entity, value);
+		} catch (Throwable e) {
+			throw new RuntimeException("Error setting field " + field, e);
+		}
+	}
+
+	@Override
+	public void bind(Object entity, PreparedStatement stmt, int offset, Object[] bound) throws SQLException {
+		for (int i = 0; i < insertGetters.length; i++) {
+			Object value;
+
+			try {
+				value = insertGetters[i].invokeExact(entity);
+			} catch (Throwable e) {
+				throw new SQLException("Error binding parameter", e);
+			}
+
+			stmt.setObject(offset + i + 1, value);
+			bound[insertIndices[i]] = value;
+		}
+	}
+
+	@Override
+	public void hydrate(Object entity, ResultSet rs, int[] indices) throws SQLException {
+		for (int i = 0; i < rowSetters.length; i++) {
+			try {
+				rowSetters[i].invokeExact(entity, rs, indices[i]);
+			} catch (SQLException | RuntimeException e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new SQLException(e);
+			}
+		}
+	}
+
+	private static MethodHandle rowSetter(Field field, MethodHandle setter) {
+		Class<?> type = field.getType();
+
+		try {
+			String name = ColumnReaders.readerName(type);
+			MethodHandle reader;
+
+			if (name != null) {
+				reader = LOOKUP.findStatic(ColumnReaders.class, name, MethodType.methodType(type, ResultSet.class, int.class));
+			} else {
+				reader = MethodHandles.insertArguments(LOOKUP.findStatic(ColumnReaders.class, "readObject", MethodType.methodType(Object.class, Class.class, ResultSet.class, int.class)), 0, type);
+				type = Object.class;
+			}
+
+			return MethodHandles.collectArguments(setter.asType(MethodType.methodType(void.class, Object.class, type)), 1, reader).asType(ROW_SETTER);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to bind column reader for field " + field.getName(), e);
+		}
+	}
+
+}
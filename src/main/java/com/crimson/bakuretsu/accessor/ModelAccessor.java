@@ -0,0 +1,24 @@
+package com.crimson.bakuretsu.accessor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Field indices follow ModelMetadata.fields; bind covers insertFields from parameter offset + 1
+public interface ModelAccessor {
+
+	Object newInstance();
+
+	Object getId(Object entity);
+
+	void setId(Object entity, Object id);
+
+	Object get(Object entity, int field);
+
+	void set(Object entity, int field, Object value);
+
+	void bind(Object entity, PreparedStatement stmt, int offset, Object[] bound) throws SQLException;
+
+	void hydrate(Object entity, ResultSet rs, int[] indices) throws SQLException;
+
+}
@@ -0,0 +1,38 @@
+package com.crimson.bakuretsu.accessor;
+
+import com.crimson.bakuretsu.core.ModelMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+// -Dbakuretsu.accessors=handles disables class generation
+public final class ModelAccessors {
+
+	private static final Logger log = LoggerFactory.getLogger(ModelAccessors.class);
+
+	public static final String PROPERTY = "bakuretsu.accessors";
+
+	private static final boolean GENERATED = !"handles".equals(System.getProperty(PROPERTY, "generated").toLowerCase(Locale.ROOT));
+
+	private ModelAccessors() {
+	}
+
+	public static ModelAccessor create(Class<?> clazz, ModelMetadata metadata) {
+		if (!GENERATED) {
+			return handles(metadata);
+		}
+
+		try {
+			return AccessorGenerator.generate(clazz, metadata);
+		} catch (Throwable e) {
+			log.warn("Falling back to method handle accessors for {}: {}", clazz.getName(), e.toString());
+			return handles(metadata);
+		}
+	}
+
+	public static ModelAccessor handles(ModelMetadata metadata) {
+		return new HandleAccessor(metadata);
+	}
+
+}
@@ -4,6 +4,7 @@ package com.crimson.bakuretsu.cache;
 import com.crimson.bakuretsu.annotations.Cached;
 import com.crimson.bakuretsu.core.Model;
 import com.crimson.bakuretsu.core.ModelMetadata;
+import com.crimson.metrics.Metrics;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
@@ -73,10 +74,25 @@ public class CacheManager {
 			throw new IllegalArgumentException("Class " + clazz.getName() + " must be annotated with @Cached");
 		}
 
-		return Caffeine.newBuilder()
+		Cache<Object, Model<?>> cache = Caffeine.newBuilder()
 			.maximumSize(cachedAnnotation.maxSize())
 			.expireAfterWrite(cachedAnnotation.expireAfterMinutes(), TimeUnit.MINUTES)
+			.recordStats()
 			.build();
+
+		registerMetrics(clazz, cache);
+
+		return cache;
+	}
+
+	private static void registerMetrics(Class<? extends Model<?>> clazz, Cache<Object, Model<?>> cache) {
+		String prefix = "cache." + clazz.getSimpleName();
+
+		Metrics.gauge(prefix + ".hits", () -> cache.stats().hitCount());
+		Metrics.gauge(prefix + ".misses", () -> cache.stats().missCount());
+		Metrics.gauge(prefix + ".evictions", () -> cache.stats().evictionCount());
+		Metrics.gauge(prefix + ".size", cache::estimatedSize);
+		Metrics.gauge(prefix + ".hitRatioPermille", () -> Math.round(cache.stats().hitRate() * 1000));
 	}
 	//endregion
 
@@ -4,11 +4,12 @@ package com.crimson.bakuretsu.core;
 import com.crimson.bakuretsu.annotations.Cached;
 import com.crimson.bakuretsu.cache.CacheManager;
 import com.crimson.bakuretsu.database.DatabaseOperations;
+import com.crimson.bakuretsu.database.QueryStats;
 import com.crimson.bakuretsu.enums.RelationTypes;
 import com.crimson.bakuretsu.query.QueryBuilder;
+import com.crimson.bakuretsu.writebehind.WriteBehind;
 import com.zaxxer.hikari.HikariDataSource;
 
-import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.sql.*;
 import java.util.*;
@@ -16,8 +17,12 @@ import java.util.concurrent.CompletableFuture;
 
 public abstract class Model<M extends Model<M>> {
 
+	private static final int BATCH_SIZE = 500;
+
 	public static HikariDataSource dataSource;
 
+	private volatile Object[] snapshot;
+
 	public static <R extends Model<R>> QueryBuilder<R> query(Class<R> clazz) {
 		return new QueryBuilder<>(clazz);
 	}
@@ -37,6 +42,8 @@ public abstract class Model<M extends Model<M>> {
 
 		String query = String.format("SELECT * FROM %s WHERE %s IN (%s)", ModelMetadata.get(clazz).tableName, column, String.join(",", Collections.nCopies(values.size(), "?")));
 
+		long start = System.nanoTime();
+
 		try (Connection conn = dataSource.getConnection();
 		     PreparedStatement stmt = conn.prepareStatement(query)) {
 
@@ -48,6 +55,8 @@ public abstract class Model<M extends Model<M>> {
 			return DatabaseOperations.createInstances(clazz, stmt.executeQuery());
 		} catch (Throwable e) {
 			throw new RuntimeException("Error executing whereIn query", e);
+		} finally {
+			QueryStats.record(query, start);
 		}
 	}
 
@@ -69,10 +78,11 @@ public abstract class Model<M extends Model<M>> {
 		try (Connection conn = dataSource.getConnection()) {
 			String query = "SELECT * FROM " + ModelMetadata.get(clazz).tableName;
 			try (PreparedStatement stmt = conn.prepareStatement(query); ResultSet rs = stmt.executeQuery()) {
+				RowMapper.Bound mapper = ModelMetadata.get(clazz).rowMapper.bind(rs.getMetaData());
 				List<R> results = new ArrayList<>();
 
 				while (rs.next()) {
-					R entity = DatabaseOperations.createInstance(clazz, rs);
+					R entity = clazz.cast(mapper.map(rs));
 					CacheManager.cacheEntity(clazz, entity.getIdValue(), entity);
 					results.add(entity);
 				}
@@ -241,14 +251,7 @@ public abstract class Model<M extends Model<M>> {
 				stmt.setObject(1, getIdValue());
 
 				try (ResultSet rs = stmt.executeQuery()) {
-					List<R> relatedEntities = new ArrayList<>();
-
-					while (rs.next()) {
-						R relatedEntity = DatabaseOperations.createInstance(targetEntityClass, rs);
-						relatedEntities.add(relatedEntity);
-					}
-
-					return relatedEntities;
+					return DatabaseOperations.createInstances(targetEntityClass, rs);
 				}
 			}
 		} catch (Throwable e) {
@@ -259,31 +262,39 @@ public abstract class Model<M extends Model<M>> {
 	private void insert() {
 		ModelMetadata metadata = ModelMetadata.get(getClassFinal());
 		String query = metadata.insertQuery;
+		long start = System.nanoTime();
 
 		try (Connection conn = dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
-			bindParameters(stmt, false);
+			Object[] bound = bindParameters(stmt, false);
 			stmt.executeUpdate();
 			handleGeneratedKeys(stmt);
+			snapshot = bound;
 		} catch (Exception e) {
 			throw new RuntimeException("Error inserting entity", e);
+		} finally {
+			QueryStats.record(query, start);
 		}
 	}
 
-	private void update() {
+	private void update(BitSet dirty) {
 		ModelMetadata metadata = ModelMetadata.get(getClassFinal());
-		String query = metadata.updateQuery;
+		String query = metadata.updateQuery(dirty);
+		long start = System.nanoTime();
 
 		try (Connection conn = dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(query)) {
-			bindParameters(stmt, false);
-			stmt.setObject(metadata.insertFields.size() + 1, getIdValue());
+			Object[] bound = bindDirty(stmt, metadata, dirty);
 			stmt.executeUpdate();
+			snapshot = bound;
 		} catch (Exception e) {
 			throw new RuntimeException("Error updating entity", e);
+		} finally {
+			QueryStats.record(query, start);
 		}
 	}
 
 	public void delete() {
 		String query = "DELETE FROM " + getTableName() + " WHERE " + ModelMetadata.get(getClassFinal()).idColumnName + " = ?";
+		long start = System.nanoTime();
 
 		try (Connection conn = dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(query)) {
 			stmt.setObject(1, getIdValue());
@@ -294,77 +305,261 @@ public abstract class Model<M extends Model<M>> {
 			}
 		} catch (Exception e) {
 			throw new RuntimeException("Error deleting entity", e);
+		} finally {
+			QueryStats.record(query, start);
 		}
 	}
 
 	public void refresh() {
 		findById(getClassFinal(), getIdValue())
 			.ifPresent(newEntity -> {
-				for (Field field : ModelMetadata.get(getClassFinal()).fields) {
-					try {
-						field.setAccessible(true);
-						field.set(this, field.get(newEntity));
-					} catch (IllegalAccessException e) {
-						throw new RuntimeException("Error refreshing entity", e);
-					}
+				ModelMetadata metadata = ModelMetadata.get(getClassFinal());
+
+				for (int i = 0; i < metadata.fields.size(); i++) {
+					metadata.accessor.set(this, i, metadata.accessor.get(newEntity, i));
 				}
+
+				snapshot();
 			});
 	}
 
-	@SuppressWarnings("unchecked")
+	// An entity with no changes since it was loaded or last saved is not written
 	public void save() {
 		if (isNewRecord()) {
 			insert();
 		} else {
-			update();
+			BitSet dirty = dirtyFields();
+
+			if (!dirty.isEmpty()) {
+				update(dirty);
+			}
 		}
 
-		CacheManager.cacheEntity(getClassFinal(), getIdValue(), (M) this);
+		cache();
 	}
 
-	private void bindParameters(PreparedStatement stmt, boolean includeId) throws SQLException {
+	// Compared with equals, so a mutable field value must be replaced rather than changed in place
+	public BitSet dirtyFields() {
 		ModelMetadata metadata = ModelMetadata.get(getClassFinal());
-		List<Field> fields = includeId ? metadata.fields : metadata.insertFields;
+		BitSet dirty = new BitSet(metadata.fields.size());
 
-		for (int i = 0; i < fields.size(); i++) {
-			Field field = fields.get(i);
-			try {
-				MethodHandle getter = metadata.fieldGetters.get(field);
-				Object value = getter.invoke(this);
-				stmt.setObject(i + 1, value);
-			} catch (Throwable e) {
-				throw new SQLException("Error binding parameter", e);
+		for (int i = 0; i < metadata.fields.size(); i++) {
+			if (i != metadata.idIndex && (snapshot == null || !Objects.equals(metadata.accessor.get(this, i), snapshot[i]))) {
+				dirty.set(i);
 			}
 		}
+
+		return dirty;
 	}
 
-	private void handleGeneratedKeys(PreparedStatement stmt) throws SQLException {
+	// Writes install the values they bound instead, once the statement has committed
+	void snapshot() {
 		ModelMetadata metadata = ModelMetadata.get(getClassFinal());
-		try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-			if (generatedKeys.next()) {
-				Class<?> fieldType = metadata.idField.getType();
+		Object[] values = new Object[metadata.fields.size()];
 
-				Object value = generatedKeys.getObject(1);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = metadata.accessor.get(this, i);
+		}
+
+		this.snapshot = values;
+	}
+
+	public void saveLater() {
+		WriteBehind.enqueue(this);
+	}
+
+	public boolean isDirty() {
+		return WriteBehind.isPending(this) || isNewRecord() || !dirtyFields().isEmpty();
+	}
 
-				if (value instanceof Number number) {
-					if (fieldType == long.class || fieldType == Long.class) {
-						value = number.longValue();
-					} else if (fieldType == int.class || fieldType == Integer.class) {
-						value = number.intValue();
+	// On failure the transaction is rolled back and the ids of inserted entities are restored
+	public static void saveAll(Collection<? extends Model<?>> entities) {
+		if (entities.isEmpty()) {
+			return;
+		}
+
+		Map<Class<?>, List<Model<?>>> inserts = new LinkedHashMap<>();
+		Map<Class<?>, List<Model<?>>> updates = new LinkedHashMap<>();
+
+		for (Model<?> entity : entities) {
+			(entity.isNewRecord() ? inserts : updates).computeIfAbsent(entity.getClass(), key -> new ArrayList<>()).add(entity);
+		}
+
+		Map<Model<?>, Object> originalIds = new IdentityHashMap<>();
+		Map<Model<?>, Object[]> written = new IdentityHashMap<>();
+
+		try (Connection conn = dataSource.getConnection()) {
+			boolean autoCommit = conn.getAutoCommit();
+			conn.setAutoCommit(false);
+
+			try {
+				for (List<Model<?>> group : inserts.values()) {
+					insertBatch(conn, group, originalIds, written);
+				}
+
+				for (List<Model<?>> group : updates.values()) {
+					updateBatch(conn, group, written);
+				}
+
+				conn.commit();
+			} catch (SQLException | RuntimeException e) {
+				conn.rollback();
+
+				originalIds.forEach((entity, id) -> ModelMetadata.get(entity.getClassFinal()).accessor.setId(entity, id));
+
+				throw e;
+			} finally {
+				conn.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("Error saving entities", e);
+		}
+
+		written.forEach((entity, bound) -> entity.snapshot = bound);
+
+		for (Model<?> entity : entities) {
+			entity.cache();
+		}
+	}
+
+	private static void insertBatch(Connection conn, List<Model<?>> group, Map<Model<?>, Object> originalIds, Map<Model<?>, Object[]> written) throws SQLException {
+		ModelMetadata metadata = ModelMetadata.get(group.getFirst().getClassFinal());
+		String query = metadata.insertQuery;
+
+		try (PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+			for (int from = 0; from < group.size(); from += BATCH_SIZE) {
+				List<Model<?>> chunk = group.subList(from, Math.min(from + BATCH_SIZE, group.size()));
+				long start = System.nanoTime();
+
+				try {
+					for (Model<?> entity : chunk) {
+						written.put(entity, entity.bindParameters(stmt, false));
+						stmt.addBatch();
+					}
+
+					stmt.executeBatch();
+
+					try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+						for (Model<?> entity : chunk) {
+							if (!generatedKeys.next()) {
+								throw new SQLException(String.format("Driver returned fewer generated keys than inserted rows for '%s'", metadata.tableName));
+							}
+
+							originalIds.put(entity, metadata.accessor.getId(entity));
+							metadata.accessor.setId(entity, generatedId(metadata, generatedKeys.getObject(1)));
+						}
+					}
+				} finally {
+					QueryStats.record(query, start);
+				}
+			}
+		}
+	}
+
+	// One batch per dirty-column mask; clean entities are skipped
+	private static void updateBatch(Connection conn, List<Model<?>> group, Map<Model<?>, Object[]> written) throws SQLException {
+		ModelMetadata metadata = ModelMetadata.get(group.getFirst().getClassFinal());
+		Map<BitSet, List<Model<?>>> masks = new LinkedHashMap<>();
+
+		for (Model<?> entity : group) {
+			BitSet dirty = entity.dirtyFields();
+
+			if (!dirty.isEmpty()) {
+				masks.computeIfAbsent(dirty, key -> new ArrayList<>()).add(entity);
+			}
+		}
+
+		for (Map.Entry<BitSet, List<Model<?>>> entry : masks.entrySet()) {
+			BitSet dirty = entry.getKey();
+			List<Model<?>> entities = entry.getValue();
+			String query = metadata.updateQuery(dirty);
+
+			try (PreparedStatement stmt = conn.prepareStatement(query)) {
+				for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+					List<Model<?>> chunk = entities.subList(from, Math.min(from + BATCH_SIZE, entities.size()));
+					long start = System.nanoTime();
+
+					try {
+						for (Model<?> entity : chunk) {
+							written.put(entity, entity.bindDirty(stmt, metadata, dirty));
+							stmt.addBatch();
+						}
+
+						stmt.executeBatch();
+					} finally {
+						QueryStats.record(query, start);
 					}
-				} else if (fieldType == UUID.class && value instanceof String) {
-					value = UUID.fromString((String) value);
 				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void cache() {
+		CacheManager.cacheEntity(getClassFinal(), getIdValue(), (M) this);
+	}
 
+	private Object[] bindParameters(PreparedStatement stmt, boolean includeId) throws SQLException {
+		ModelMetadata metadata = ModelMetadata.get(getClassFinal());
+		Object[] bound = new Object[metadata.fields.size()];
+
+		if (!includeId) {
+			metadata.accessor.bind(this, stmt, 0, bound);
+			return bound;
+		}
+
+		for (int i = 0; i < bound.length; i++) {
+			bound[i] = metadata.accessor.get(this, i);
+			stmt.setObject(i + 1, bound[i]);
+		}
+
+		return bound;
+	}
+
+	// Columns that were not written keep their previous snapshot value
+	private Object[] bindDirty(PreparedStatement stmt, ModelMetadata metadata, BitSet dirty) throws SQLException {
+		Object[] bound = snapshot != null ? snapshot.clone() : new Object[metadata.fields.size()];
+		int index = 1;
+
+		for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+			bound[i] = metadata.accessor.get(this, i);
+			stmt.setObject(index++, bound[i]);
+		}
+
+		stmt.setObject(index, metadata.accessor.getId(this));
+
+		return bound;
+	}
+
+	private void handleGeneratedKeys(PreparedStatement stmt) throws SQLException {
+		ModelMetadata metadata = ModelMetadata.get(getClassFinal());
+		try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+			if (generatedKeys.next()) {
 				try {
-					metadata.idSetter.invoke(this, value);
-				} catch (Throwable e) {
+					metadata.accessor.setId(this, generatedId(metadata, generatedKeys.getObject(1)));
+				} catch (RuntimeException e) {
 					throw new SQLException("Error setting ID value", e);
 				}
 			}
 		}
 	}
 
+	private static Object generatedId(ModelMetadata metadata, Object value) {
+		Class<?> fieldType = metadata.idField.getType();
+
+		if (value instanceof Number number) {
+			if (fieldType == long.class || fieldType == Long.class) {
+				return number.longValue();
+			} else if (fieldType == int.class || fieldType == Integer.class) {
+				return number.intValue();
+			}
+		} else if (fieldType == UUID.class && value instanceof String) {
+			return UUID.fromString((String) value);
+		}
+
+		return value;
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(getIdValue());
@@ -385,19 +580,14 @@ public abstract class Model<M extends Model<M>> {
 	}
 
 	public Object getIdValue() {
-		try {
-			return ModelMetadata.get(getClassFinal()).idGetter.invoke(this);
-		} catch (Throwable e) {
-			e.getStackTrace();
-			throw new RuntimeException("Error getting ID", e);
-		}
+		return ModelMetadata.get(getClassFinal()).accessor.getId(this);
 	}
 
 	private String getTableName() {
 		return ModelMetadata.get(getClassFinal()).tableName;
 	}
 
-	private boolean isNewRecord() {
+	public boolean isNewRecord() {
 		Object id = getIdValue();
 		if (id == null) {
 			return true;
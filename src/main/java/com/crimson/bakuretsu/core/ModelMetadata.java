@@ -1,6 +1,8 @@
 
 package com.crimson.bakuretsu.core;
 
+import com.crimson.bakuretsu.accessor.ModelAccessor;
+import com.crimson.bakuretsu.accessor.ModelAccessors;
 import com.crimson.bakuretsu.annotations.*;
 import com.crimson.bakuretsu.enums.RelationTypes;
 
@@ -27,6 +29,7 @@ public class ModelMetadata {
 
 	public final Field idField;
 	public final String idColumnName;
+	public final int idIndex;
 
 	public final Supplier<?> constructor;
 
@@ -35,12 +38,18 @@ public class ModelMetadata {
 	public final String insertQuery;
 	public final String updateQuery;
 
+	private final Map<BitSet, String> partialUpdateQueries = new ConcurrentHashMap<>();
+
 	public final Map<Field, MethodHandle> fieldGetters;
 	public final Map<Field, MethodHandle> fieldSetters;
 
 	public final MethodHandle idGetter;
 	public final MethodHandle idSetter;
 
+	public ModelAccessor accessor;
+
+	public RowMapper rowMapper;
+
 	public ModelMetadata(Class<? extends Model<?>> clazz) {
 		this.isCached = clazz.isAnnotationPresent(Cached.class);
 
@@ -98,6 +107,7 @@ public class ModelMetadata {
 
 		//region Resolve ColumnName
 		this.idColumnName = idField.getAnnotation(Column.class).name();
+		this.idIndex = fields.indexOf(idField);
 		//endregion
 
 		//region Create Constructor
@@ -126,7 +136,7 @@ public class ModelMetadata {
 			.map(f -> f.getAnnotation(Column.class).name())
 			.collect(Collectors.joining(", "));
 
-		String placeholders = "?".repeat(insertFields.size());
+		String placeholders = String.join(", ", Collections.nCopies(insertFields.size(), "?"));
 
 		this.insertQuery = "INSERT INTO " + tableName + " (" + columns + ") VALUES (" + placeholders + ")";
 		//endregion
@@ -160,7 +170,31 @@ public class ModelMetadata {
 	}
 
 	public static ModelMetadata get(Class<? extends Model<?>> clazz) {
-		return METADATA_CACHE.computeIfAbsent(clazz, ModelMetadata::new);
+		return METADATA_CACHE.computeIfAbsent(clazz, ModelMetadata::create);
+	}
+
+	private static ModelMetadata create(Class<? extends Model<?>> clazz) {
+		ModelMetadata metadata = new ModelMetadata(clazz);
+
+		metadata.accessor = ModelAccessors.create(clazz, metadata);
+		metadata.rowMapper = new RowMapper(metadata, metadata.fields);
+
+		return metadata;
+	}
+
+	// Built once per distinct dirty mask, with the id as the last parameter
+	public String updateQuery(BitSet dirty) {
+		String query = partialUpdateQueries.get(dirty);
+
+		if (query != null) {
+			return query;
+		}
+
+		BitSet key = (BitSet) dirty.clone();
+
+		return partialUpdateQueries.computeIfAbsent(key, mask -> "UPDATE " + tableName + " SET " + mask.stream()
+			.mapToObj(i -> resolveColumnName(fields.get(i)) + " = ?")
+			.collect(Collectors.joining(", ")) + " WHERE " + idColumnName + " = ?");
 	}
 
 	public static String resolveColumnName(Field field) {
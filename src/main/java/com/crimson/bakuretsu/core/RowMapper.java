@@ -0,0 +1,140 @@
+package com.crimson.bakuretsu.core;
+
+import com.crimson.bakuretsu.accessor.ColumnReaders;
+import com.crimson.exceptions.FieldSetException;
+
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class RowMapper {
+
+	private final ModelMetadata metadata;
+	private final String[] columns;
+
+	private final Bound identity;
+	private final Map<List<String>, Bound> shapes = new ConcurrentHashMap<>();
+
+	RowMapper(ModelMetadata metadata, List<Field> fields) {
+		this.metadata = metadata;
+		this.columns = new String[fields.size()];
+
+		int[] indices = new int[fields.size()];
+
+		for (int i = 0; i < fields.size(); i++) {
+			this.columns[i] = ModelMetadata.resolveColumnName(fields.get(i));
+			indices[i] = i + 1;
+		}
+
+		this.identity = new Bound(indices);
+	}
+
+	public Bound bind(ResultSetMetaData resultSetMetaData) throws SQLException {
+		int count = resultSetMetaData.getColumnCount();
+		String[] labels = new String[count];
+
+		for (int index = 1; index <= count; index++) {
+			labels[index - 1] = resultSetMetaData.getColumnLabel(index);
+		}
+
+		if (isIdentity(labels)) {
+			return identity;
+		}
+
+		List<String> shape = Arrays.asList(labels);
+		Bound bound = shapes.get(shape);
+
+		if (bound == null) {
+			bound = resolve(labels);
+			shapes.putIfAbsent(shape, bound);
+		}
+
+		return bound;
+	}
+
+	// SELECT * in field order, the common case, maps column i to field i without a lookup
+	private boolean isIdentity(String[] labels) {
+		if (labels.length != columns.length) {
+			return false;
+		}
+
+		for (int i = 0; i < columns.length; i++) {
+			if (!columns[i].equalsIgnoreCase(labels[i])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private Bound resolve(String[] labels) throws SQLException {
+		Map<String, Integer> positions = new HashMap<>(labels.length * 2);
+
+		for (int index = 1; index <= labels.length; index++) {
+			positions.putIfAbsent(labels[index - 1].toLowerCase(Locale.ROOT), index);
+		}
+
+		int[] indices = new int[columns.length];
+
+		for (int i = 0; i < columns.length; i++) {
+			Integer index = positions.get(columns[i].toLowerCase(Locale.ROOT));
+
+			if (index == null) {
+				throw new SQLException(String.format("Column '%s' of entity '%s' is not in the result set", columns[i], metadata.className));
+			}
+
+			indices[i] = index;
+		}
+
+		return new Bound(indices);
+	}
+
+	public final class Bound {
+
+		private final int[] indices;
+
+		private Bound(int[] indices) {
+			this.indices = indices;
+		}
+
+		public Object map(ResultSet rs) {
+			Object entity = metadata.accessor.newInstance();
+
+			try {
+				metadata.accessor.hydrate(entity, rs, indices);
+			} catch (Throwable e) {
+				throw failure(entity, rs, e);
+			}
+
+			if (entity instanceof Model<?> model) {
+				model.snapshot();
+			}
+
+			return entity;
+		}
+
+		// Error path only: replays the row field by field to name the failing column
+		private FieldSetException failure(Object entity, ResultSet rs, Throwable cause) {
+			for (int i = 0; i < columns.length; i++) {
+				Field field = metadata.fields.get(i);
+
+				try {
+					metadata.accessor.set(entity, i, ColumnReaders.read(field.getType(), rs, indices[i]));
+				} catch (Throwable e) {
+					return new FieldSetException(String.format("Failed to set field '%s' for entity '%s'. Column: '%s'.\nError: %s", field.getName(), metadata.className, columns[i], e.getMessage()), e);
+				}
+			}
+
+			return new FieldSetException(String.format("Failed to hydrate entity '%s'.\nError: %s", metadata.className, cause.getMessage()), cause);
+		}
+
+	}
+
+}
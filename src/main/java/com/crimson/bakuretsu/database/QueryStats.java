@@ -0,0 +1,44 @@
+package com.crimson.bakuretsu.database;
+
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+public final class QueryStats {
+
+	private static final String PREFIX = "db.query[";
+	private static final String IN_LIST_START = "IN (?";
+	private static final Pattern IN_LIST = Pattern.compile("IN \\(\\?(?:,\\s*\\?)*\\)");
+
+	private static final Map<String, Histogram> SHAPES = new ConcurrentHashMap<>();
+
+	private QueryStats() {
+	}
+
+	public static void record(String sql, long start) {
+		latency(sql).record(System.nanoTime() - start);
+	}
+
+	public static Histogram latency(String sql) {
+		String shape = shape(sql);
+		Histogram histogram = SHAPES.get(shape);
+
+		if (histogram == null) {
+			histogram = SHAPES.computeIfAbsent(shape, key -> Metrics.histogram(PREFIX + key + "]"));
+		}
+
+		return histogram;
+	}
+
+	static String shape(String sql) {
+		if (!sql.contains(IN_LIST_START)) {
+			return sql;
+		}
+
+		return IN_LIST.matcher(sql).replaceAll("IN (?)");
+	}
+
+}
@@ -2,9 +2,11 @@ package com.crimson.bakuretsu.models.avatar.character;
 
 import com.crimson.bakuretsu.annotations.Column;
 import com.crimson.bakuretsu.annotations.Id;
+import com.crimson.bakuretsu.annotations.Table;
 import com.crimson.bakuretsu.core.Model;
 import com.crimson.bakuretsu.models.avatar.IAvatarData;
 
+@Table("characters")
 public class Character extends Model<Character> implements IAvatarData {
 
 	@Id
@@ -6,11 +6,10 @@ import com.crimson.bakuretsu.annotations.Id;
 import com.crimson.bakuretsu.annotations.Table;
 import com.crimson.bakuretsu.core.Model;
 import com.crimson.bakuretsu.models.avatar.IAvatarData;
-import com.crimson.bakuretsu.models.user.User;
 
 @Cached
 @Table("monsters")
-public class Monster extends Model<User> implements IAvatarData {
+public class Monster extends Model<Monster> implements IAvatarData {
 
 	@Id
 	@Column(
@@ -24,7 +23,7 @@ public class Monster extends Model<User> implements IAvatarData {
 	private String Name;
 
 	@Override
-	public int getId() {
+	public int id() {
 		return id;
 	}
 
@@ -35,7 +34,7 @@ public class Monster extends Model<User> implements IAvatarData {
 	}
 
 	@Override
-	public String getName() {
+	public String name() {
 		return Name;
 	}
 
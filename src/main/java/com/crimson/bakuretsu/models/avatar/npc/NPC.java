@@ -6,11 +6,10 @@ import com.crimson.bakuretsu.annotations.Id;
 import com.crimson.bakuretsu.annotations.Table;
 import com.crimson.bakuretsu.core.Model;
 import com.crimson.bakuretsu.models.avatar.IAvatarData;
-import com.crimson.bakuretsu.models.user.User;
 
 @Cached
 @Table("npcs")
-public class NPC extends Model<User> implements IAvatarData {
+public class NPC extends Model<NPC> implements IAvatarData {
 
 	@Id
 	@Column(
@@ -23,7 +22,8 @@ public class NPC extends Model<User> implements IAvatarData {
 	)
 	private String name;
 
-	public int getId() {
+	@Override
+	public int id() {
 		return this.id;
 	}
 
@@ -33,7 +33,8 @@ public class NPC extends Model<User> implements IAvatarData {
 		return this;
 	}
 
-	public String getName() {
+	@Override
+	public String name() {
 		return name;
 	}
 
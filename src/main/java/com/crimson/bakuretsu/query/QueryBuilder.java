@@ -4,6 +4,7 @@ package com.crimson.bakuretsu.query;
 import com.crimson.bakuretsu.core.Model;
 import com.crimson.bakuretsu.core.ModelMetadata;
 import com.crimson.bakuretsu.database.DatabaseOperations;
+import com.crimson.bakuretsu.database.QueryStats;
 
 import java.lang.reflect.Field;
 import java.sql.Connection;
@@ -72,6 +73,8 @@ public class QueryBuilder<M extends Model<M>> {
 			sql.append(whereJoiner);
 		}
 
+		long start = System.nanoTime();
+
 		try (Connection conn = Model.dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
 			for (int i = 0; i < parameters.size(); i++) {
 				stmt.setObject(i + 1, parameters.get(i));
@@ -84,6 +87,8 @@ public class QueryBuilder<M extends Model<M>> {
 			}
 		} catch (SQLException e) {
 			throw new RuntimeException("Error executing count query", e);
+		} finally {
+			QueryStats.record(sql.toString(), start);
 		}
 
 		return 0;
@@ -169,6 +174,8 @@ public class QueryBuilder<M extends Model<M>> {
 			parameters.add(offset);
 		}
 
+		long start = System.nanoTime();
+
 		try (Connection conn = Model.dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
 
 			for (int i = 0; i < parameters.size(); i++) {
@@ -178,6 +185,8 @@ public class QueryBuilder<M extends Model<M>> {
 			return DatabaseOperations.createInstances(modelClass, stmt.executeQuery());
 		} catch (Throwable e) {
 			throw new RuntimeException("Error executing query", e);
+		} finally {
+			QueryStats.record(sql.toString(), start);
 		}
 	}
 
@@ -385,6 +394,8 @@ public class QueryBuilder<M extends Model<M>> {
 		//noinspection StringBufferReplaceableByString
 		String query = new StringBuilder().append("SELECT ").append(joinForeignKey).append(", ").append(joinRelatedKey).append(" FROM ").append(joinTable).append(" WHERE ").append(joinForeignKey).append(" IN (").append(placeholders).append(")").toString();
 
+		long start = System.nanoTime();
+
 		try (Connection conn = Model.dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(query)) {
 			for (int i = 0; i < parentIds.size(); i++) {
 				stmt.setObject(i + 1, parentIds.get(i));
@@ -400,6 +411,8 @@ public class QueryBuilder<M extends Model<M>> {
 			return result;
 		} catch (SQLException e) {
 			throw new RuntimeException("Error fetching many-to-many relations", e);
+		} finally {
+			QueryStats.record(query, start);
 		}
 	}
 
@@ -431,6 +444,8 @@ public class QueryBuilder<M extends Model<M>> {
 		//noinspection StringBufferReplaceableByString
 		String sql = new StringBuilder().append("SELECT * FROM ").append(ModelMetadata.get(clazz).tableName).append(" WHERE ").append(column).append(" IN (").append(placeholders).append(")").toString();
 
+		long start = System.nanoTime();
+
 		try (Connection conn = Model.dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(sql)) {
 			int index = 1;
 
@@ -440,6 +455,8 @@ public class QueryBuilder<M extends Model<M>> {
 			return DatabaseOperations.createInstances(clazz, stmt.executeQuery());
 		} catch (Throwable e) {
 			throw new RuntimeException("Error executing whereIn query '" + sql + "' for " + clazz.getSimpleName() + ": " + e.getMessage(), e);
+		} finally {
+			QueryStats.record(sql, start);
 		}
 	}
 
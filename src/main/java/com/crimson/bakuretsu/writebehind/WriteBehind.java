@@ -0,0 +1,324 @@
+package com.crimson.bakuretsu.writebehind;
+
+import com.crimson.bakuretsu.core.Model;
+import com.crimson.config.data.WriteBehindData;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class WriteBehind {
+
+	private static final Logger log = LoggerFactory.getLogger(WriteBehind.class);
+
+	private static final Counter ENQUEUED = Metrics.counter("writebehind.enqueued");
+	private static final Counter COALESCED = Metrics.counter("writebehind.coalesced");
+	private static final Counter FLUSHED = Metrics.counter("writebehind.flushed");
+	private static final Counter FAILURES = Metrics.counter("writebehind.failures");
+	private static final Counter DROPPED = Metrics.counter("writebehind.dropped");
+	private static final Histogram FLUSH = Metrics.histogram("writebehind.flush.latency");
+
+	private static final Object lock = new Object();
+
+	private static final LinkedHashMap<Object, Pending> pending = new LinkedHashMap<>();
+
+	private static long sequence;
+
+	private static volatile WriteBehindData data = WriteBehindData.DEFAULT;
+	private static volatile ScheduledExecutorService executor;
+	private static volatile ScheduledFuture<?> task;
+
+	static {
+		Metrics.gauge("writebehind.pending", WriteBehind::pending);
+		Metrics.gauge("writebehind.coalescedPermille", () -> {
+			long enqueued = ENQUEUED.value();
+			return enqueued == 0 ? 0 : COALESCED.value() * 1000 / enqueued;
+		});
+	}
+
+	private WriteBehind() {
+	}
+
+	public static synchronized void start(WriteBehindData writeBehindData) {
+		if (executor != null) {
+			return;
+		}
+
+		data = writeBehindData;
+		executor = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory("write-behind"));
+		task = executor.scheduleWithFixedDelay(WriteBehind::drain, data.flushInterval(), data.flushInterval(), TimeUnit.MILLISECONDS);
+
+		log.info("Write-behind flushing every {} ms in batches of {}", data.flushInterval(), data.batchSize());
+	}
+
+	public static synchronized void shutdown() {
+		if (executor == null) {
+			return;
+		}
+
+		task.cancel(false);
+
+		try {
+			if (!executor.submit(WriteBehind::drain).get(30, TimeUnit.SECONDS)) {
+				log.error("Final write-behind flush failed, {} entities not persisted", pending());
+			}
+		} catch (Exception e) {
+			log.error("Final write-behind flush failed, {} entities not persisted", pending(), e);
+		}
+
+		executor.shutdown();
+		executor = null;
+	}
+
+	public static void enqueue(Model<?> entity) {
+		Object key = key(entity);
+
+		ENQUEUED.increment();
+
+		synchronized (lock) {
+			if (pending.put(key, new Pending(entity, ++sequence, 0)) != null) {
+				COALESCED.increment();
+			}
+		}
+	}
+
+	public static boolean isPending(Model<?> entity) {
+		synchronized (lock) {
+			return pending.containsKey(key(entity));
+		}
+	}
+
+	public static int pending() {
+		synchronized (lock) {
+			return pending.size();
+		}
+	}
+
+	public static CompletableFuture<Void> flush() {
+		return submit(WriteBehind::drain);
+	}
+
+	// Writes only this entity's queued state, e.g. a character on disconnect, without draining the whole queue
+	public static CompletableFuture<Void> flush(Model<?> entity) {
+		Object key = key(entity);
+
+		return submit(() -> {
+			Pending value;
+
+			synchronized (lock) {
+				value = pending.get(key);
+			}
+
+			return value == null || write(new ArrayList<>(List.of(Map.entry(key, value))));
+		});
+	}
+
+	private static CompletableFuture<Void> submit(BooleanSupplier flush) {
+		ScheduledExecutorService current = executor;
+
+		if (current == null) {
+			flush.getAsBoolean();
+			return CompletableFuture.completedFuture(null);
+		}
+
+		return CompletableFuture.runAsync(flush::getAsBoolean, current);
+	}
+
+	private static boolean drain() {
+		List<Map.Entry<Object, Pending>> batch = new ArrayList<>();
+
+		while (true) {
+			synchronized (lock) {
+				if (pending.isEmpty()) {
+					return true;
+				}
+
+				for (Map.Entry<Object, Pending> entry : pending.entrySet()) {
+					if (batch.size() == data.batchSize()) {
+						break;
+					}
+
+					batch.add(Map.entry(entry.getKey(), entry.getValue()));
+				}
+			}
+
+			if (!write(batch)) {
+				return false;
+			}
+
+			batch.clear();
+		}
+	}
+
+	// Entries stay queued while they are written, so a batch that fails keeps its place at the head
+	private static boolean write(List<Map.Entry<Object, Pending>> batch) {
+		RuntimeException failure = save(batch);
+
+		if (failure == null) {
+			return true;
+		}
+
+		FAILURES.increment();
+
+		if (isTransient(failure)) {
+			log.error("Write-behind flush of {} entities failed, retrying in {} ms", batch.size(), data.flushInterval(), failure);
+			return false;
+		}
+
+		int attempts = retried(batch);
+
+		if (attempts < data.maxRetries()) {
+			log.error("Write-behind flush of {} entities failed (attempt {} of {}), retrying in {} ms", batch.size(), attempts, data.maxRetries(), data.flushInterval(), failure);
+			return false;
+		}
+
+		return isolate(batch, failure);
+	}
+
+	// Splits a batch that keeps failing until the rows that cannot be written are found and dropped
+	private static boolean isolate(List<Map.Entry<Object, Pending>> batch, RuntimeException failure) {
+		if (batch.size() == 1) {
+			Map.Entry<Object, Pending> entry = batch.getFirst();
+
+			synchronized (lock) {
+				if (!pending.remove(entry.getKey(), entry.getValue())) {
+					return true;
+				}
+			}
+
+			Model<?> entity = entry.getValue().entity();
+
+			DROPPED.increment();
+			log.error("Dropping {} (id: {}) from the write-behind queue after {} failed attempts", entity.getClass().getSimpleName(), entity.getIdValue(), entry.getValue().attempts(), failure);
+
+			return true;
+		}
+
+		int half = batch.size() / 2;
+
+		for (List<Map.Entry<Object, Pending>> part : List.of(batch.subList(0, half), batch.subList(half, batch.size()))) {
+			RuntimeException partFailure = save(part);
+
+			if (partFailure == null) {
+				continue;
+			}
+
+			if (isTransient(partFailure)) {
+				log.error("Write-behind flush of {} entities failed, retrying in {} ms", part.size(), data.flushInterval(), partFailure);
+				return false;
+			}
+
+			if (!isolate(part, partFailure)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static RuntimeException save(List<Map.Entry<Object, Pending>> batch) {
+		List<Model<?>> entities = new ArrayList<>(batch.size());
+
+		for (Map.Entry<Object, Pending> entry : batch) {
+			entities.add(entry.getValue().entity());
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			Model.saveAll(entities);
+		} catch (RuntimeException e) {
+			return e;
+		} finally {
+			FLUSH.record(System.nanoTime() - start);
+		}
+
+		FLUSHED.add(entities.size());
+
+		// An entry enqueued again while it was written keeps its newer state queued
+		synchronized (lock) {
+			for (Map.Entry<Object, Pending> entry : batch) {
+				pending.remove(entry.getKey(), entry.getValue());
+			}
+		}
+
+		return null;
+	}
+
+	private static int retried(List<Map.Entry<Object, Pending>> batch) {
+		int attempts = 0;
+
+		synchronized (lock) {
+			for (int i = 0; i < batch.size(); i++) {
+				Map.Entry<Object, Pending> entry = batch.get(i);
+				Pending retry = entry.getValue().retried();
+
+				if (pending.replace(entry.getKey(), entry.getValue(), retry)) {
+					batch.set(i, Map.entry(entry.getKey(), retry));
+				}
+
+				attempts = Math.max(attempts, batch.get(i).getValue().attempts());
+			}
+		}
+
+		return attempts;
+	}
+
+	// Connection failures and pool timeouts say nothing about the rows, so they are retried without a limit
+	private static boolean isTransient(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLTransientException || cause instanceof SQLRecoverableException || cause instanceof SQLNonTransientConnectionException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	// Entities without an id yet are keyed by identity so two unsaved rows never coalesce
+	private static Object key(Model<?> entity) {
+		return entity.isNewRecord() ? new Identity(entity) : new Key(entity.getClass(), entity.getIdValue());
+	}
+
+	private record Key(Class<?> type, Object id) {
+	}
+
+	private record Pending(Model<?> entity, long sequence, int attempts) {
+
+		private Pending retried() {
+			return new Pending(entity, sequence, attempts + 1);
+		}
+
+	}
+
+	private record Identity(Model<?> entity) {
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Identity other && other.entity == entity;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(entity);
+		}
+
+	}
+
+}
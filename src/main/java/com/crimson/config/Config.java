@@ -8,13 +8,18 @@
 package com.crimson.config;
 
 import com.crimson.config.data.DatabaseData;
+import com.crimson.config.data.DispatchData;
 import com.crimson.config.data.GameData;
+import com.crimson.config.data.MetricsData;
+import com.crimson.config.data.NetworkData;
+import com.crimson.config.data.WorldData;
+import com.crimson.config.data.WriteBehindData;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 import java.io.File;
 
-public record Config(int id, String name, GameData game, DatabaseData database) {
+public record Config(int id, String name, GameData game, DatabaseData database, NetworkData network, DispatchData dispatch, WorldData world, MetricsData metrics, WriteBehindData writeBehind) {
 
 	private static final Config data;
 
@@ -30,6 +35,28 @@ public record Config(int id, String name, GameData game, DatabaseData database)
 		}
 	}
 
+	public Config {
+		if (network == null) {
+			network = NetworkData.DEFAULT;
+		}
+
+		if (dispatch == null) {
+			dispatch = DispatchData.DEFAULT;
+		}
+
+		if (world == null) {
+			world = WorldData.DEFAULT;
+		}
+
+		if (metrics == null) {
+			metrics = MetricsData.DEFAULT;
+		}
+
+		if (writeBehind == null) {
+			writeBehind = WriteBehindData.DEFAULT;
+		}
+	}
+
 	public static Config singleton() {
 		return data;
 	}
@@ -7,9 +7,13 @@
  */
 package com.crimson.config.data;
 
-public record DatabaseData(String host, int port, String user, String password, String database) {
+public record DatabaseData(String host, int port, String user, String password, String database, String url) {
 
     public String JDBC_URL() {
+        if (url != null) {
+            return url;
+        }
+
         return "jdbc:mariadb://%s:%s/%s".formatted(host(), port(), database());
     }
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * MEGUMIN (Modular Emulated Gateway for Unique and Multi-platform Infrastructure Networks)
+ * is proprietary software. Redistribution and use in source or binary forms, with or without modification,
+ * are prohibited without prior written permission.
+ */
+package com.crimson.config.data;
+
+public record DispatchData(int mailboxCapacity, int playerRate, int playerBurst, int commandRate, int commandBurst, int maxDelayMillis) {
+
+    public static final DispatchData DEFAULT = new DispatchData(0, 0, 0, 0, 0, 0);
+
+    public DispatchData {
+        if (mailboxCapacity <= 0) {
+            mailboxCapacity = 256;
+        }
+
+        if (playerRate <= 0) {
+            playerRate = 30;
+        }
+
+        if (playerBurst <= 0) {
+            playerBurst = 60;
+        }
+
+        if (commandRate <= 0) {
+            commandRate = 10;
+        }
+
+        if (commandBurst <= 0) {
+            commandBurst = 20;
+        }
+
+        if (maxDelayMillis < 0) {
+            maxDelayMillis = 0;
+        }
+    }
+
+}
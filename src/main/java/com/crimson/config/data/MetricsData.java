@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * MEGUMIN (Modular Emulated Gateway for Unique and Multi-platform Infrastructure Networks)
+ * is proprietary software. Redistribution and use in source or binary forms, with or without modification,
+ * are prohibited without prior written permission.
+ */
+package com.crimson.config.data;
+
+public record MetricsData(Boolean jmx, Boolean http, String host, int port) {
+
+    public static final MetricsData DEFAULT = new MetricsData(null, null, null, 0);
+
+    public MetricsData {
+        if (jmx == null) {
+            jmx = true;
+        }
+
+        if (http == null) {
+            http = true;
+        }
+
+        if (host == null) {
+            host = "127.0.0.1";
+        }
+
+        if (port <= 0) {
+            port = 9464;
+        }
+    }
+
+}
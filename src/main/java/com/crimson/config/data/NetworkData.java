@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * MEGUMIN (Modular Emulated Gateway for Unique and Multi-platform Infrastructure Networks)
+ * is proprietary software. Redistribution and use in source or binary forms, with or without modification,
+ * are prohibited without prior written permission.
+ */
+package com.crimson.config.data;
+
+import com.crimson.network.Transport;
+import com.crimson.network.decoder.DecoderMode;
+import com.crimson.network.message.CodecMode;
+
+public record NetworkData(
+    DecoderMode decoder,
+    CodecMode codec,
+    Transport transport,
+    int bossThreads,
+    int workerThreads,
+    Boolean pooledAllocator,
+    Boolean directBuffers,
+    Boolean edgeTriggered,
+    int socketReceiveBuffer,
+    int receiveBufferMin,
+    int receiveBufferInitial,
+    int receiveBufferMax,
+    int writeBufferLow,
+    int writeBufferHigh,
+    int flushBytes,
+    int flushDelayMicros,
+    Boolean packFrames,
+    Boolean compression,
+    int compressionThreshold,
+    int compressionLevel,
+    int outboundBudget
+) {
+
+    public static final NetworkData DEFAULT = new NetworkData(null, null, null, 0, 0, null, null, null, 0, 0, 0, 0, 0, 0, 0, 0, null, null, 0, 0, 0);
+
+    public NetworkData {
+        if (decoder == null) {
+            decoder = DecoderMode.JSON;
+        }
+
+        if (codec == null) {
+            codec = CodecMode.JACKSON;
+        }
+
+        if (transport == null) {
+            transport = Transport.AUTO;
+        }
+
+        if (bossThreads <= 0) {
+            bossThreads = 1;
+        }
+
+        if (workerThreads <= 0) {
+            workerThreads = Runtime.getRuntime().availableProcessors();
+        }
+
+        if (pooledAllocator == null) {
+            pooledAllocator = true;
+        }
+
+        if (directBuffers == null) {
+            directBuffers = true;
+        }
+
+        if (edgeTriggered == null) {
+            edgeTriggered = true;
+        }
+
+        if (receiveBufferMin <= 0) {
+            receiveBufferMin = 64;
+        }
+
+        if (receiveBufferInitial <= 0) {
+            receiveBufferInitial = 2048;
+        }
+
+        if (receiveBufferMax <= 0) {
+            receiveBufferMax = 65536;
+        }
+
+        if (writeBufferLow <= 0) {
+            writeBufferLow = 32 * 1024;
+        }
+
+        if (writeBufferHigh <= 0) {
+            writeBufferHigh = 64 * 1024;
+        }
+
+        if (flushBytes <= 0) {
+            flushBytes = 16 * 1024;
+        }
+
+        if (flushDelayMicros <= 0) {
+            flushDelayMicros = 2000;
+        }
+
+        if (packFrames == null) {
+            packFrames = false;
+        }
+
+        if (compression == null) {
+            compression = true;
+        }
+
+        if (compressionThreshold <= 0) {
+            compressionThreshold = 512;
+        }
+
+        if (compressionLevel <= 0) {
+            compressionLevel = 6;
+        }
+
+        if (outboundBudget <= 0) {
+            outboundBudget = 1024 * 1024;
+        }
+    }
+
+}
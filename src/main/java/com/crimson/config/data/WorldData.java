@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * MEGUMIN (Modular Emulated Gateway for Unique and Multi-platform Infrastructure Networks)
+ * is proprietary software. Redistribution and use in source or binary forms, with or without modification,
+ * are prohibited without prior written permission.
+ */
+package com.crimson.config.data;
+
+public record WorldData(int areaCapacity, int areaShards, int interestCellSize, int interestRadius, int tickRate) {
+
+    public static final WorldData DEFAULT = new WorldData(0, 0, 0, 0, 0);
+
+    public WorldData {
+        if (areaCapacity <= 0) {
+            areaCapacity = 50;
+        }
+
+        if (areaShards <= 0) {
+            areaShards = Runtime.getRuntime().availableProcessors();
+        }
+
+        if (interestCellSize <= 0) {
+            interestCellSize = 200;
+        }
+
+        if (interestRadius <= 0) {
+            interestRadius = 1;
+        }
+
+        if (tickRate <= 0) {
+            tickRate = 10;
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * MEGUMIN (Modular Emulated Gateway for Unique and Multi-platform Infrastructure Networks)
+ * is proprietary software. Redistribution and use in source or binary forms, with or without modification,
+ * are prohibited without prior written permission.
+ */
+package com.crimson.config.data;
+
+public record WriteBehindData(int flushInterval, int batchSize, int maxRetries) {
+
+    public static final WriteBehindData DEFAULT = new WriteBehindData(0, 0, 0);
+
+    public WriteBehindData {
+        if (flushInterval <= 0) {
+            flushInterval = 1000;
+        }
+
+        if (batchSize <= 0) {
+            batchSize = 500;
+        }
+
+        if (maxRetries <= 0) {
+            maxRetries = 3;
+        }
+    }
+
+}
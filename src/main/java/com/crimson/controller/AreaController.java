@@ -0,0 +1,89 @@
+package com.crimson.controller;
+
+import com.crimson.area.AreaInstance;
+import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.bakuretsu.core.Model;
+import com.crimson.bakuretsu.models.area.Area;
+import com.crimson.config.Config;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutorGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AreaController {
+
+    private static final Logger log = LoggerFactory.getLogger(AreaController.class);
+
+    private static final EventExecutorGroup SHARDS = new DefaultEventExecutorGroup(Config.singleton().world().areaShards(), new DefaultThreadFactory("area"));
+
+    private static final AtomicInteger COUNT = new AtomicInteger(0);
+
+    private static final ConcurrentHashMap<Integer, List<AreaInstance>> INSTANCES = new ConcurrentHashMap<>();
+
+    public static Optional<AreaInstance> join(PlayerAvatar playerAvatar, int areaId) {
+        Optional<Area> area = Model.findById(Area.class, areaId);
+
+        if (area.isEmpty()) {
+            log.warn("Player {} tried to join unknown area {}", playerAvatar.name(), areaId);
+            return Optional.empty();
+        }
+
+        leave(playerAvatar);
+
+        List<AreaInstance> instances = INSTANCES.computeIfAbsent(areaId, key -> new CopyOnWriteArrayList<>());
+
+        for (AreaInstance instance : instances) {
+            if (instance.tryReserve()) {
+                instance.join(playerAvatar);
+                return Optional.of(instance);
+            }
+        }
+
+        AreaInstance instance = new AreaInstance(COUNT.incrementAndGet(), area.get(), Config.singleton().world().areaCapacity(), SHARDS.next(), 1);
+
+        instances.add(instance);
+        instance.start();
+        instance.join(playerAvatar);
+
+        log.debug("Spawned instance {} of area '{}' ({} instances)", instance.id(), area.get().getName(), instances.size());
+
+        return Optional.of(instance);
+    }
+
+    public static void leave(PlayerAvatar playerAvatar) {
+        AreaInstance instance = playerAvatar.area();
+
+        if (instance == null) {
+            return;
+        }
+
+        playerAvatar.setArea(null);
+        instance.leave(playerAvatar);
+    }
+
+    public static List<AreaInstance> instances(int areaId) {
+        return INSTANCES.getOrDefault(areaId, List.of());
+    }
+
+    public static EventExecutorGroup shards() {
+        return SHARDS;
+    }
+
+    public static void close(AreaInstance instance) {
+        List<AreaInstance> instances = INSTANCES.get(instance.area().getId());
+
+        if (instances != null) {
+            instances.remove(instance);
+        }
+
+        log.debug("Closed instance {} of area '{}'", instance.id(), instance.area().getName());
+    }
+
+}
@@ -1,18 +1,24 @@
 package com.crimson.controller;
 
 import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.bakuretsu.core.Model;
+import com.crimson.bakuretsu.models.avatar.character.Character;
+import com.crimson.bakuretsu.writebehind.WriteBehind;
+import com.crimson.metrics.Metrics;
 import com.crimson.network.encoder.NetworkEncoder;
+import com.crimson.network.encoder.OutboundBatcher;
+import com.crimson.network.message.Message;
 import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.util.AttributeKey;
-import net.sf.json.JSONObject;
+import io.netty.util.concurrent.GlobalEventExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedList;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 public class PlayerController {
 
@@ -23,22 +29,33 @@ public class PlayerController {
     public static final AtomicInteger COUNT = new AtomicInteger(0);
 
     private static final ConcurrentHashMap<Integer, PlayerAvatar> PLAYERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, PlayerAvatar> PLAYERS_BY_NAME = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, PlayerAvatar> PLAYERS_BY_USER = new ConcurrentHashMap<>();
 
-    public static void login(Channel channel, JSONObject json) {
+    private static final ChannelGroup CHANNELS = new DefaultChannelGroup("Players", GlobalEventExecutor.INSTANCE);
+
+    static {
+        Metrics.gauge("network.outbound.pending.total", () -> CHANNELS.stream().mapToLong(OutboundBatcher::pendingBytes).sum());
+        Metrics.gauge("network.outbound.pending.max", () -> CHANNELS.stream().mapToLong(OutboundBatcher::pendingBytes).max().orElse(0));
+    }
+
+    public static void login(Channel channel, Message json) {
         String name = json.getString("name");
 
-//        Player exitingPlayer = PlayerController.find(name);
-//
-//        if (exitingPlayer.doesExist()) {
-//            disconnect(exitingPlayer, "You logged in from a different location.");
-//        }
+        PlayerAvatar exitingPlayer = PlayerController.find(name);
+
+        if (exitingPlayer.doesExist()) {
+            disconnect(exitingPlayer, "You logged in from a different location.");
+        }
 
         int networkId = PlayerController.COUNT.getAndIncrement();
 
-        PLAYERS.put(networkId, new PlayerAvatar(networkId, name, channel, ));
+        Character character = Model.query(Character.class).where("name", name).first().orElse(null);
+
+        register(new PlayerAvatar(networkId, name, channel, character));
 
         NetworkEncoder.dispatch(
-            new JSONObject()
+            new Message()
                 .element("type", "login")
                 .element("success", "message")
                 .element("message", "Connected to the server"),
@@ -47,39 +64,74 @@ public class PlayerController {
     }
 
     public static void disconnect(PlayerAvatar playerAvatar, String message) {
-        PLAYERS.remove(playerAvatar.data().id());
+        unregister(playerAvatar);
 
-        if (playerAvatar.network().channel().isActive()) {
+        if (playerAvatar.channel().isActive()) {
             NetworkEncoder.dispatch(
-                new JSONObject()
+                new Message()
                     .element("type", "disconnect")
                     .element("message", message),
-                playerAvatar.network().channel()
+                playerAvatar.channel()
             );
 
-            playerAvatar.network().channel().disconnect();
+            OutboundBatcher.flushAndClose(playerAvatar.channel());
         }
     }
 
-    public static void register(Channel channel, JSONObject json) {
+    public static void register(Channel channel, Message json) {
         //TODO: register
     }
 
     public static PlayerAvatar find(String name) {
-        String nameCase = name.toLowerCase(Locale.US);
+        return PLAYERS_BY_NAME.getOrDefault(name.toLowerCase(Locale.US), PlayerAvatar.NONE);
+    }
+
+    public static PlayerAvatar findByUserId(int userId) {
+        return PLAYERS_BY_USER.getOrDefault(userId, PlayerAvatar.NONE);
+    }
+
+    public static PlayerAvatar findByNetworkId(int networkId) {
+        return PLAYERS.getOrDefault(networkId, PlayerAvatar.NONE);
+    }
+
+    public static ChannelGroup channels() {
+        return CHANNELS;
+    }
 
-        return PLAYERS.values()
-            .stream()
-            .filter(player -> player.data().name().equals(nameCase))
-            .findFirst()
-            .orElse(PlayerAvatar.NONE);
+    public static int online() {
+        return PLAYERS.size();
     }
 
-    public static LinkedList<Channel> channels() {
-        return PLAYERS.values()
-            .stream()
-            .map(player -> player.network().channel())
-            .collect(Collectors.toCollection(LinkedList::new));
+    private static void register(PlayerAvatar playerAvatar) {
+        PLAYERS.put(playerAvatar.networkId(), playerAvatar);
+        PLAYERS_BY_NAME.put(playerAvatar.name().toLowerCase(Locale.US), playerAvatar);
+
+        if (playerAvatar.data() != null) {
+            PLAYERS_BY_USER.put(playerAvatar.data().userId(), playerAvatar);
+        }
+
+        playerAvatar.channel().attr(PLAYER_KEY).set(playerAvatar);
+
+        CHANNELS.add(playerAvatar.channel());
+
+        log.debug("Registered player {} (network id: {}), {} online", playerAvatar.name(), playerAvatar.networkId(), PLAYERS.size());
+    }
+
+    public static void unregister(PlayerAvatar playerAvatar) {
+        PLAYERS.remove(playerAvatar.networkId(), playerAvatar);
+        PLAYERS_BY_NAME.remove(playerAvatar.name().toLowerCase(Locale.US), playerAvatar);
+
+        if (playerAvatar.data() != null) {
+            PLAYERS_BY_USER.remove(playerAvatar.data().userId(), playerAvatar);
+        }
+
+        CHANNELS.remove(playerAvatar.channel());
+
+        AreaController.leave(playerAvatar);
+
+        if (playerAvatar.data() != null) {
+            WriteBehind.flush(playerAvatar.data());
+        }
     }
 
 }
@@ -0,0 +1,12 @@
+package com.crimson.interfaces;
+
+import com.crimson.network.message.Message;
+import io.netty.buffer.ByteBuf;
+
+public interface IBinaryCodec {
+
+    Message decode(ByteBuf payload);
+
+    void encode(Message args, ByteBuf out);
+
+}
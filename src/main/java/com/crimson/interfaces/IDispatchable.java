@@ -7,10 +7,14 @@
  */
 package com.crimson.interfaces;
 
-import net.sf.json.JSONObject;
+import com.crimson.network.message.Message;
 
 public interface IDispatchable {
 
-    void dispatch(JSONObject params);
+    void dispatch(Message params);
+
+    default boolean isWritable() {
+        return true;
+    }
 
 }
@@ -0,0 +1,16 @@
+package com.crimson.interfaces;
+
+import com.crimson.avatar.Avatar;
+
+public interface IInterestListener {
+
+    IInterestListener NONE = new IInterestListener() {
+    };
+
+    default void onEnter(Avatar<?> observer, Avatar<?> subject) {
+    }
+
+    default void onLeave(Avatar<?> observer, Avatar<?> subject) {
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.crimson.interfaces;
+
+import com.crimson.network.message.Message;
+import io.netty.buffer.ByteBuf;
+
+public interface IMessageCodec {
+
+    Message decode(ByteBuf buffer);
+
+    Message decode(String content);
+
+    void encode(Message message, ByteBuf out);
+
+    String encodeToString(Message message);
+
+}
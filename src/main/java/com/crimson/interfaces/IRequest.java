@@ -1,12 +1,12 @@
 package com.crimson.interfaces;
 
 import com.crimson.avatar.player.PlayerAvatar;
-import net.sf.json.JSONObject;
+import com.crimson.network.message.Message;
 
 import java.io.IOException;
 
 public interface IRequest {
 
-    void onRequest(PlayerAvatar playerAvatar, JSONObject jsonObject) throws IOException;
+    void onRequest(PlayerAvatar playerAvatar, Message message) throws IOException;
 
 }
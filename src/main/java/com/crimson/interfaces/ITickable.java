@@ -0,0 +1,10 @@
+package com.crimson.interfaces;
+
+public interface ITickable {
+
+    void tick(long tick);
+
+    default void tickNonEssential(long tick) {
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.crimson.interfaces;
+
+import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.network.data.JsonBody;
+import com.crimson.network.message.Message;
+import com.crimson.requests.data.ArgsBinder;
+
+import java.io.IOException;
+
+public interface ITypedRequest<A extends Record> extends IRequest {
+
+    void onRequest(PlayerAvatar playerAvatar, A args) throws IOException;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    default void onRequest(PlayerAvatar playerAvatar, Message message) throws IOException {
+        onRequest(playerAvatar, (A) ArgsBinder.of(ArgsBinder.argsOf(getClass())).bind(JsonBody.of(message)));
+    }
+
+}
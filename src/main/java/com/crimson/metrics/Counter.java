@@ -0,0 +1,21 @@
+package com.crimson.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Counter {
+
+    private final LongAdder adder = new LongAdder();
+
+    public void increment() {
+        adder.increment();
+    }
+
+    public void add(long value) {
+        adder.add(value);
+    }
+
+    public long value() {
+        return adder.sum();
+    }
+
+}
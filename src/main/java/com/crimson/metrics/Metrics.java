@@ -0,0 +1,40 @@
+package com.crimson.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public final class Metrics {
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public static Histogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    public static void gauge(String name, LongSupplier supplier) {
+        GAUGES.put(name, supplier);
+    }
+
+    public static Map<String, Counter> counters() {
+        return COUNTERS;
+    }
+
+    public static Map<String, Histogram> histograms() {
+        return HISTOGRAMS;
+    }
+
+    public static Map<String, LongSupplier> gauges() {
+        return GAUGES;
+    }
+
+}
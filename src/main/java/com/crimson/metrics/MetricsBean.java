@@ -0,0 +1,108 @@
+package com.crimson.metrics;
+
+import javax.management.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+public final class MetricsBean implements DynamicMBean {
+
+    private static final String[] HISTOGRAM_FIELDS = {"count", "mean", "p50", "p99", "p999", "max"};
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Counter counter = Metrics.counters().get(attribute);
+
+        if (counter != null) {
+            return counter.value();
+        }
+
+        LongSupplier gauge = Metrics.gauges().get(attribute);
+
+        if (gauge != null) {
+            return gauge.getAsLong();
+        }
+
+        int separator = attribute.lastIndexOf('.');
+        Histogram histogram = separator == -1 ? null : Metrics.histograms().get(attribute.substring(0, separator));
+
+        if (histogram == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        return switch (attribute.substring(separator + 1)) {
+            case "count" -> histogram.count();
+            case "mean" -> histogram.mean();
+            case "p50" -> histogram.percentile(50);
+            case "p99" -> histogram.percentile(99);
+            case "p999" -> histogram.percentile(99.9);
+            case "max" -> histogram.max();
+            default -> throw new AttributeNotFoundException(attribute);
+        };
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList(attributes.length);
+
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException ignored) {
+                // metrics can disappear between getMBeanInfo and the read
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if (actionName.equals("resetHistograms")) {
+            Metrics.histograms().values().forEach(Histogram::reset);
+            return null;
+        }
+
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        Map<String, String> types = new TreeMap<>();
+
+        Metrics.counters().keySet().forEach(name -> types.put(name, Long.class.getName()));
+        Metrics.gauges().keySet().forEach(name -> types.put(name, Long.class.getName()));
+
+        for (String name : Metrics.histograms().keySet()) {
+            for (String field : HISTOGRAM_FIELDS) {
+                types.put(name + "." + field, field.equals("mean") ? Double.class.getName() : Long.class.getName());
+            }
+        }
+
+        List<MBeanAttributeInfo> attributes = new ArrayList<>(types.size());
+
+        types.forEach((name, type) -> attributes.add(new MBeanAttributeInfo(name, type, name, true, false, false)));
+
+        return new MBeanInfo(
+            MetricsBean.class.getName(),
+            "Server metrics",
+            attributes.toArray(MBeanAttributeInfo[]::new),
+            null,
+            new MBeanOperationInfo[]{new MBeanOperationInfo("resetHistograms", "Clears all latency histograms", new MBeanParameterInfo[0], "void", MBeanOperationInfo.ACTION)},
+            null
+        );
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.crimson.metrics;
+
+import com.crimson.config.data.MetricsData;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+public final class MetricsExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsExporter.class);
+
+    public static final String OBJECT_NAME = "com.crimson:type=Metrics";
+
+    private static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private static HttpServer server;
+
+    private MetricsExporter() {
+    }
+
+    public static synchronized void start(MetricsData profile) {
+        if (profile.jmx()) {
+            try {
+                ObjectName name = new ObjectName(OBJECT_NAME);
+
+                if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsBean(), name);
+                }
+            } catch (JMException ex) {
+                log.error("Failed to register metrics MBean", ex);
+            }
+        }
+
+        if (profile.http() && server == null) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(profile.host(), profile.port()), 0);
+                server.setExecutor(Executors.newSingleThreadExecutor(new DefaultThreadFactory("metrics", true)));
+                server.createContext(PATH, MetricsExporter::handle);
+                server.start();
+
+                log.info("Metrics available on http://{}:{}{}", profile.host(), profile.port(), PATH);
+            } catch (IOException ex) {
+                server = null;
+                log.error("Failed to start metrics endpoint on {}:{}", profile.host(), profile.port(), ex);
+            }
+        }
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    public static String render() {
+        StringBuilder out = new StringBuilder(8192);
+        String type = null;
+
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(Metrics.counters()).entrySet()) {
+            type = header(out, type, entry.getKey(), "", "counter");
+            sample(out, entry.getKey(), "", null, entry.getValue().value());
+        }
+
+        for (Map.Entry<String, LongSupplier> entry : new TreeMap<>(Metrics.gauges()).entrySet()) {
+            type = header(out, type, entry.getKey(), "", "gauge");
+            sample(out, entry.getKey(), "", null, entry.getValue().getAsLong());
+        }
+
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(Metrics.histograms()).entrySet()) {
+            Histogram histogram = entry.getValue();
+
+            type = header(out, type, entry.getKey(), "", "summary");
+
+            for (double quantile : QUANTILES) {
+                sample(out, entry.getKey(), "", "quantile=\"" + quantile + "\"", histogram.percentile(quantile * 100));
+            }
+
+            sample(out, entry.getKey(), "_sum", null, histogram.sum());
+            sample(out, entry.getKey(), "_count", null, histogram.count());
+        }
+
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(Metrics.histograms()).entrySet()) {
+            type = header(out, type, entry.getKey(), "_max", "gauge");
+            sample(out, entry.getKey(), "_max", null, entry.getValue().max());
+        }
+
+        return out.toString();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(body);
+            }
+        }
+    }
+
+    private static String header(StringBuilder out, String previous, String name, String suffix, String type) {
+        String family = family(name) + suffix;
+
+        if (!family.equals(previous)) {
+            out.append("# TYPE ").append(family).append(' ').append(type).append('\n');
+        }
+
+        return family;
+    }
+
+    private static void sample(StringBuilder out, String name, String suffix, String extraLabel, Number value) {
+        out.append(family(name)).append(suffix);
+
+        int labelStart = name.indexOf('[');
+        boolean labelled = labelStart != -1 && name.endsWith("]");
+
+        if (labelled || extraLabel != null) {
+            out.append('{');
+
+            if (labelled) {
+                out.append("shape=\"");
+                escape(out, name, labelStart + 1, name.length() - 1);
+                out.append('"');
+            }
+
+            if (extraLabel != null) {
+                out.append(labelled ? "," : "").append(extraLabel);
+            }
+
+            out.append('}');
+        }
+
+        out.append(' ').append(value).append('\n');
+    }
+
+    // db.query[SELECT ...] -> db_query{shape="SELECT ..."}
+    private static String family(String name) {
+        int labelStart = name.indexOf('[');
+        String base = labelStart == -1 ? name : name.substring(0, labelStart);
+
+        StringBuilder family = new StringBuilder(base.length());
+
+        for (int i = 0; i < base.length(); i++) {
+            char c = base.charAt(i);
+            family.append(Character.isLetterOrDigit(c) || c == '_' ? c : '_');
+        }
+
+        return family.toString();
+    }
+
+    private static void escape(StringBuilder out, String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+
+}
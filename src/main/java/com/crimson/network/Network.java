@@ -1,16 +1,15 @@
 package com.crimson.network;
 
+import com.crimson.config.Config;
+import com.crimson.config.data.NetworkData;
 import com.crimson.network.channel.NetworkInitializer;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
-import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.FixedRecvByteBufAllocator;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.*;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,18 +20,51 @@ public record Network(String ip, int port, ServerBootstrap serverBootstrap) {
     private static final Logger log = LoggerFactory.getLogger(Network.class);
 
     public void createSocket() {
-        EventLoopGroup bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
-        EventLoopGroup workerGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
+        createSocket(Config.singleton().network(), new NetworkInitializer());
+    }
+
+    public void createSocket(NetworkData profile, ChannelHandler childHandler) {
+        Transport transport = profile.transport().resolve();
+
+        if (transport != profile.transport() && profile.transport() != Transport.AUTO) {
+            log.warn("Transport {} is not available, falling back to {}", profile.transport(), transport);
+        }
+
+        EventLoopGroup bossGroup = transport.group(profile.bossThreads());
+        EventLoopGroup workerGroup = transport.group(profile.workerThreads());
 
         serverBootstrap().group(bossGroup, workerGroup)
-            .channel(Epoll.isAvailable() ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
-            .childHandler(new NetworkInitializer())
+            .channel(transport.serverChannel())
+            .childHandler(childHandler)
             .childOption(ChannelOption.TCP_NODELAY, true)
             .childOption(ChannelOption.SO_KEEPALIVE, true)
-            .childOption(ChannelOption.SO_RCVBUF, 5120)
-            .childOption(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(5120))
-            .childOption(ChannelOption.ALLOCATOR, new UnpooledByteBufAllocator(false))
+            .childOption(ChannelOption.RCVBUF_ALLOCATOR, receiveAllocator(profile))
+            .childOption(ChannelOption.ALLOCATOR, allocator(profile))
+            .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(profile.writeBufferLow(), profile.writeBufferHigh()))
             .childOption(ChannelOption.SO_REUSEADDR, true);
+
+        if (profile.socketReceiveBuffer() > 0) {
+            serverBootstrap().childOption(ChannelOption.SO_RCVBUF, profile.socketReceiveBuffer());
+        }
+
+        if (transport == Transport.EPOLL) {
+            serverBootstrap().childOption(EpollChannelOption.EPOLL_MODE, profile.edgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED);
+        }
+
+        log.info(
+            "Network profile - transport: {}{}, boss threads: {}, worker threads: {}, allocator: {} {}, receive buffer: {}/{}/{}, write buffer water mark: {}/{}",
+            transport,
+            transport == Transport.EPOLL ? (profile.edgeTriggered() ? " (edge-triggered)" : " (level-triggered)") : "",
+            profile.bossThreads(),
+            profile.workerThreads(),
+            profile.pooledAllocator() ? "pooled" : "unpooled",
+            profile.directBuffers() ? "direct" : "heap",
+            profile.receiveBufferMin(),
+            profile.receiveBufferInitial(),
+            profile.receiveBufferMax(),
+            profile.writeBufferLow(),
+            profile.writeBufferHigh()
+        );
     }
 
     public void bind() {
@@ -45,4 +77,26 @@ public record Network(String ip, int port, ServerBootstrap serverBootstrap) {
         });
     }
 
+    private static ByteBufAllocator allocator(NetworkData profile) {
+        if (profile.pooledAllocator()) {
+            if (profile.directBuffers() == PooledByteBufAllocator.defaultPreferDirect()) {
+                return PooledByteBufAllocator.DEFAULT;
+            }
+
+            log.warn("Direct buffer preference differs from Netty's default, creating a separate pooled allocator");
+
+            return new PooledByteBufAllocator(profile.directBuffers());
+        }
+
+        return new UnpooledByteBufAllocator(profile.directBuffers());
+    }
+
+    private static RecvByteBufAllocator receiveAllocator(NetworkData profile) {
+        if (profile.receiveBufferMin() == profile.receiveBufferMax()) {
+            return new FixedRecvByteBufAllocator(profile.receiveBufferMax());
+        }
+
+        return new AdaptiveRecvByteBufAllocator(profile.receiveBufferMin(), profile.receiveBufferInitial(), profile.receiveBufferMax());
+    }
+
 }
@@ -0,0 +1,52 @@
+package com.crimson.network;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+
+public enum Transport {
+    AUTO,
+    NIO,
+    EPOLL,
+    IO_URING;
+
+    public boolean isAvailable() {
+        return switch (this) {
+            case AUTO, NIO -> true;
+            case EPOLL -> Epoll.isAvailable();
+            case IO_URING -> IOUring.isAvailable();
+        };
+    }
+
+    public Transport resolve() {
+        if (this == AUTO) {
+            return Epoll.isAvailable() ? EPOLL : NIO;
+        }
+
+        return isAvailable() ? this : NIO;
+    }
+
+    public EventLoopGroup group(int threads) {
+        return switch (resolve()) {
+            case EPOLL -> new EpollEventLoopGroup(threads);
+            case IO_URING -> new IOUringEventLoopGroup(threads);
+            default -> new NioEventLoopGroup(threads);
+        };
+    }
+
+    public Class<? extends ServerChannel> serverChannel() {
+        return switch (resolve()) {
+            case EPOLL -> EpollServerSocketChannel.class;
+            case IO_URING -> IOUringServerSocketChannel.class;
+            default -> NioServerSocketChannel.class;
+        };
+    }
+
+}
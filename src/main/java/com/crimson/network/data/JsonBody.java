@@ -0,0 +1,232 @@
+package com.crimson.network.data;
+
+import com.crimson.config.Config;
+import com.crimson.exceptions.MessageException;
+import com.crimson.interfaces.IMessageCodec;
+import com.crimson.network.message.Message;
+import io.netty.buffer.ByteBuf;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+public final class JsonBody {
+
+    private static final IMessageCodec CODEC = Config.singleton().network().codec().codec();
+
+    private static final String NULL = "null";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
+    private final ByteBuf source;
+
+    private Message message;
+
+    private JsonBody(ByteBuf source, Message message) {
+        this.source = source;
+        this.message = message;
+    }
+
+    public static JsonBody of(Message message) {
+        return new JsonBody(null, message);
+    }
+
+    public static JsonBody wrap(ByteBuf source) {
+        return new JsonBody(source, null);
+    }
+
+    public String getString(String key) {
+        if (message != null) {
+            return string(key, require(key));
+        }
+
+        return readString(key, valueIndex(key));
+    }
+
+    public String optString(String key) {
+        if (message != null) {
+            Object value = message.get(key);
+            return value == null ? null : string(key, value);
+        }
+
+        int value = JsonScanner.find(source, source.readerIndex(), source.writerIndex(), key);
+
+        if (value == JsonScanner.NOT_FOUND || JsonScanner.isLiteral(source, value, source.writerIndex(), NULL)) {
+            return null;
+        }
+
+        return readString(key, value);
+    }
+
+    public boolean has(String key) {
+        if (message != null) {
+            return message.has(key);
+        }
+
+        return JsonScanner.find(source, source.readerIndex(), source.writerIndex(), key) != JsonScanner.NOT_FOUND;
+    }
+
+    public int getInt(String key) {
+        long value = getLong(key);
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new MessageException("Message[\"" + key + "\"] is out of int range.");
+        }
+
+        return (int) value;
+    }
+
+    public long getLong(String key) {
+        if (message != null) {
+            return integer(key, require(key));
+        }
+
+        int value = valueIndex(key);
+
+        try {
+            if (source.getByte(value) == '"') {
+                return Long.parseLong(readString(key, value));
+            }
+
+            return JsonScanner.readLong(source, value, source.writerIndex());
+        } catch (NumberFormatException ex) {
+            throw new MessageException("Message[\"" + key + "\"] is not an integer.", ex);
+        }
+    }
+
+    public double getDouble(String key) {
+        if (message != null) {
+            return number(key, require(key));
+        }
+
+        int value = valueIndex(key);
+
+        try {
+            if (source.getByte(value) == '"') {
+                return Double.parseDouble(readString(key, value));
+            }
+
+            return JsonScanner.readDouble(source, value, source.writerIndex());
+        } catch (NumberFormatException ex) {
+            throw new MessageException("Message[\"" + key + "\"] is not a number.", ex);
+        }
+    }
+
+    public boolean getBoolean(String key) {
+        if (message != null) {
+            if (require(key) instanceof Boolean bool) {
+                return bool;
+            }
+
+            throw new MessageException("Message[\"" + key + "\"] is not a boolean.");
+        }
+
+        int value = valueIndex(key);
+
+        if (JsonScanner.isLiteral(source, value, source.writerIndex(), TRUE)) {
+            return true;
+        }
+
+        if (JsonScanner.isLiteral(source, value, source.writerIndex(), FALSE)) {
+            return false;
+        }
+
+        throw new MessageException("Message[\"" + key + "\"] is not a boolean.");
+    }
+
+    public JsonBody getBody(String key) {
+        if (message != null) {
+            return JsonBody.of(message.getMessage(key));
+        }
+
+        int value = valueIndex(key);
+        int end = JsonScanner.skipValue(source, value, source.writerIndex());
+
+        if (end == JsonScanner.NOT_FOUND || source.getByte(value) != '{') {
+            throw new MessageException("Message[\"" + key + "\"] is not a message.");
+        }
+
+        return JsonBody.wrap(source.slice(value, end - value));
+    }
+
+    public Message message() {
+        if (message == null) {
+            message = CODEC.decode(source);
+        }
+
+        return message;
+    }
+
+    // The materialized path follows the streaming rules: integers must be integral, quoted numbers are parsed
+    // the same way and nothing else is coerced
+    private Object require(String key) {
+        Object value = message.get(key);
+
+        if (value == null) {
+            throw new MessageException("Message[\"" + key + "\"] " + (message.has(key) ? "is null." : "not found."));
+        }
+
+        return value;
+    }
+
+    private static String string(String key, Object value) {
+        if (value instanceof String string) {
+            return string;
+        }
+
+        throw new MessageException("Message[\"" + key + "\"] is not a string.");
+    }
+
+    private static long integer(String key, Object value) {
+        try {
+            return switch (value) {
+                case Integer number -> number;
+                case Long number -> number;
+                case Short number -> number;
+                case Byte number -> number;
+                case BigInteger number -> number.longValueExact();
+                case String string -> Long.parseLong(string);
+                default -> throw new MessageException("Message[\"" + key + "\"] is not an integer.");
+            };
+        } catch (ArithmeticException | NumberFormatException ex) {
+            throw new MessageException("Message[\"" + key + "\"] is not an integer.", ex);
+        }
+    }
+
+    private static double number(String key, Object value) {
+        try {
+            return switch (value) {
+                case Number number -> number.doubleValue();
+                case String string -> Double.parseDouble(string);
+                default -> throw new MessageException("Message[\"" + key + "\"] is not a number.");
+            };
+        } catch (NumberFormatException ex) {
+            throw new MessageException("Message[\"" + key + "\"] is not a number.", ex);
+        }
+    }
+
+    private String readString(String key, int value) {
+        String string = source.getByte(value) == '"' ? JsonScanner.readString(source, value, source.writerIndex()) : null;
+
+        if (string == null) {
+            throw new MessageException("Message[\"" + key + "\"] is not a string.");
+        }
+
+        return string;
+    }
+
+    private int valueIndex(String key) {
+        int value = JsonScanner.find(source, source.readerIndex(), source.writerIndex(), key);
+
+        if (value == JsonScanner.NOT_FOUND) {
+            throw new MessageException("Message[\"" + key + "\"] not found.");
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return message != null ? message.toString() : source.toString(StandardCharsets.UTF_8);
+    }
+
+}
@@ -1,7 +1,5 @@
 package com.crimson.network.data;
 
-import net.sf.json.JSONObject;
-
-public record JsonData(String type, JSONObject json) {
+public record JsonData(String type, JsonBody body) {
 
 }
@@ -0,0 +1,292 @@
+package com.crimson.network.data;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+
+public final class JsonScanner {
+
+    public static final int NOT_FOUND = -1;
+
+    private JsonScanner() {
+    }
+
+    public static int skipWhitespace(ByteBuf buf, int index, int end) {
+        while (index < end) {
+            byte b = buf.getByte(index);
+
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                break;
+            }
+
+            index++;
+        }
+
+        return index;
+    }
+
+    public static int find(ByteBuf buf, int start, int end, String key) {
+        int index = skipWhitespace(buf, start, end);
+
+        if (index >= end || buf.getByte(index) != '{') {
+            return NOT_FOUND;
+        }
+
+        index = skipWhitespace(buf, index + 1, end);
+
+        if (index < end && buf.getByte(index) == '}') {
+            return NOT_FOUND;
+        }
+
+        while (index < end) {
+            if (buf.getByte(index) != '"') {
+                return NOT_FOUND;
+            }
+
+            int keyEnd = skipString(buf, index, end);
+
+            if (keyEnd == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+
+            boolean matches = keyEquals(buf, index + 1, keyEnd - 1, key);
+
+            index = skipWhitespace(buf, keyEnd, end);
+
+            if (index >= end || buf.getByte(index) != ':') {
+                return NOT_FOUND;
+            }
+
+            index = skipWhitespace(buf, index + 1, end);
+
+            if (matches) {
+                return index;
+            }
+
+            index = skipValue(buf, index, end);
+
+            if (index == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+
+            index = skipWhitespace(buf, index, end);
+
+            if (index >= end) {
+                return NOT_FOUND;
+            }
+
+            if (buf.getByte(index) != ',') {
+                return NOT_FOUND;
+            }
+
+            index = skipWhitespace(buf, index + 1, end);
+        }
+
+        return NOT_FOUND;
+    }
+
+    public static int skipValue(ByteBuf buf, int index, int end) {
+        if (index >= end) {
+            return NOT_FOUND;
+        }
+
+        byte b = buf.getByte(index);
+
+        if (b == '"') {
+            return skipString(buf, index, end);
+        }
+
+        if (b == '{' || b == '[') {
+            return skipContainer(buf, index, end);
+        }
+
+        while (index < end) {
+            b = buf.getByte(index);
+
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                break;
+            }
+
+            index++;
+        }
+
+        return index;
+    }
+
+    public static String readString(ByteBuf buf, int index, int end) {
+        int stringEnd = skipString(buf, index, end);
+
+        if (stringEnd == NOT_FOUND) {
+            return null;
+        }
+
+        int from = index + 1;
+        int to = stringEnd - 1;
+
+        if (buf.indexOf(from, to, (byte) '\\') == -1) {
+            return buf.toString(from, to - from, StandardCharsets.UTF_8);
+        }
+
+        return unescape(buf.toString(from, to - from, StandardCharsets.UTF_8));
+    }
+
+    public static long readLong(ByteBuf buf, int index, int end) {
+        int valueEnd = skipValue(buf, index, end);
+
+        if (valueEnd == NOT_FOUND) {
+            throw new NumberFormatException("Unterminated number");
+        }
+
+        boolean negative = index < valueEnd && buf.getByte(index) == '-';
+        int digits = negative ? index + 1 : index;
+
+        if (digits == valueEnd || valueEnd - digits > 18) {
+            throw new NumberFormatException("Invalid integer length: " + (valueEnd - digits));
+        }
+
+        long value = 0;
+
+        for (int i = digits; i < valueEnd; i++) {
+            byte b = buf.getByte(i);
+
+            if (b < '0' || b > '9') {
+                throw new NumberFormatException("Invalid integer: " + buf.toString(index, valueEnd - index, StandardCharsets.US_ASCII));
+            }
+
+            value = value * 10 + (b - '0');
+        }
+
+        return negative ? -value : value;
+    }
+
+    public static double readDouble(ByteBuf buf, int index, int end) {
+        int valueEnd = skipValue(buf, index, end);
+
+        if (valueEnd == NOT_FOUND || valueEnd == index) {
+            throw new NumberFormatException("Invalid number");
+        }
+
+        return Double.parseDouble(buf.toString(index, valueEnd - index, StandardCharsets.US_ASCII));
+    }
+
+    public static boolean isLiteral(ByteBuf buf, int index, int end, String literal) {
+        return skipValue(buf, index, end) - index == literal.length() && keyEquals(buf, index, index + literal.length(), literal);
+    }
+
+    private static int skipString(ByteBuf buf, int index, int end) {
+        index++;
+
+        while (index < end) {
+            byte b = buf.getByte(index);
+
+            if (b == '\\') {
+                index += 2;
+                continue;
+            }
+
+            if (b == '"') {
+                return index + 1;
+            }
+
+            index++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static int skipContainer(ByteBuf buf, int index, int end) {
+        int depth = 0;
+
+        while (index < end) {
+            byte b = buf.getByte(index);
+
+            if (b == '"') {
+                index = skipString(buf, index, end);
+
+                if (index == NOT_FOUND) {
+                    return NOT_FOUND;
+                }
+
+                continue;
+            }
+
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                if (--depth == 0) {
+                    return index + 1;
+                }
+            }
+
+            index++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static boolean keyEquals(ByteBuf buf, int from, int to, String key) {
+        if (to - from != key.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < key.length(); i++) {
+            if (buf.getByte(from + i) != key.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String unescape(String escaped) {
+        StringBuilder builder = new StringBuilder(escaped.length());
+
+        for (int i = 0; i < escaped.length(); i++) {
+            char c = escaped.charAt(i);
+
+            if (c != '\\' || i + 1 >= escaped.length()) {
+                builder.append(c);
+                continue;
+            }
+
+            char next = escaped.charAt(++i);
+
+            switch (next) {
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    builder.append(unicode(escaped, i + 1));
+                    i += 4;
+                }
+                default -> builder.append(next);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static char unicode(String escaped, int from) {
+        if (from + 4 > escaped.length()) {
+            throw new NumberFormatException("Truncated unicode escape: \\u" + escaped.substring(from));
+        }
+
+        int value = 0;
+
+        for (int i = from; i < from + 4; i++) {
+            char c = escaped.charAt(i);
+            int digit = c < 128 ? Character.digit(c, 16) : -1;
+
+            if (digit < 0) {
+                throw new NumberFormatException("Invalid unicode escape: \\u" + escaped.substring(from, from + 4));
+            }
+
+            value = (value << 4) | digit;
+        }
+
+        return (char) value;
+    }
+
+}
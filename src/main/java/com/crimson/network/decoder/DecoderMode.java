@@ -0,0 +1,6 @@
+package com.crimson.network.decoder;
+
+public enum DecoderMode {
+    JSON,
+    STREAMING
+}
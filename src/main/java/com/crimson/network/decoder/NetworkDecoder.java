@@ -1,10 +1,16 @@
 package com.crimson.network.decoder;
 
+import com.crimson.config.Config;
+import com.crimson.interfaces.IMessageCodec;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import com.crimson.network.data.JsonBody;
 import com.crimson.network.data.JsonData;
+import com.crimson.network.message.Message;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
-import net.sf.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,15 +21,25 @@ public class NetworkDecoder extends MessageToMessageDecoder<ByteBuf> {
 
     private static final Logger log = LoggerFactory.getLogger(NetworkDecoder.class);
 
+    private static final IMessageCodec CODEC = Config.singleton().network().codec().codec();
+
+    private static final Counter INBOUND_BYTES = Metrics.counter("network.inbound.bytes");
+    private static final Counter INBOUND_FRAMES = Metrics.counter("network.inbound.frames");
+    private static final Counter INVALID = Metrics.counter("network.inbound.invalid");
+    private static final Histogram DECODE = Metrics.histogram("network.decode.latency");
+
     private static final char JSON_START = '{';
     private static final String TYPE_KEY = "type";
     private static final String BODY_KEY = "body";
 
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> out) {
-        String packet = byteBuf.toString(StandardCharsets.UTF_8);
+        long start = System.nanoTime();
 
-        byteBuf.markReaderIndex();
+        INBOUND_BYTES.add(byteBuf.readableBytes());
+        INBOUND_FRAMES.increment();
+
+        String packet = byteBuf.toString(StandardCharsets.UTF_8);
 
         if (byteBuf.readableBytes() < 2 || packet.charAt(0) != JSON_START) {
             handleInvalidPacket(ctx, packet);
@@ -33,15 +49,19 @@ public class NetworkDecoder extends MessageToMessageDecoder<ByteBuf> {
         log.debug("[RECEIVED] '{}'", packet);
 
         try {
-            JSONObject jsonObject = JSONObject.fromObject(packet);
-            out.add(new JsonData(jsonObject.getString(TYPE_KEY), jsonObject.getJSONObject(BODY_KEY)));
+            Message message = CODEC.decode(packet);
+            out.add(new JsonData(message.getString(TYPE_KEY), JsonBody.of(message.getMessage(BODY_KEY))));
         } catch (Exception ex) {
             handleInvalidPacket(ctx, packet);
             log.error("Network decode error occurred", ex);
+        } finally {
+            DECODE.record(System.nanoTime() - start);
         }
     }
 
     private void handleInvalidPacket(ChannelHandlerContext ctx, String packet) {
+        INVALID.increment();
+
         log.debug("Player {} sent an unknown/invalid packet: {}", ctx.channel().remoteAddress(), packet);
 
         if (ctx.channel().isActive()) {
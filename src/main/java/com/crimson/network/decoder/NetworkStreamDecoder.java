@@ -0,0 +1,93 @@
+package com.crimson.network.decoder;
+
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import com.crimson.network.data.JsonBody;
+import com.crimson.network.data.JsonData;
+import com.crimson.network.data.JsonScanner;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class NetworkStreamDecoder extends MessageToMessageDecoder<ByteBuf> {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkStreamDecoder.class);
+
+    private static final Counter INBOUND_BYTES = Metrics.counter("network.inbound.bytes");
+    private static final Counter INBOUND_FRAMES = Metrics.counter("network.inbound.frames");
+    private static final Counter INVALID = Metrics.counter("network.inbound.invalid");
+    private static final Histogram DECODE = Metrics.histogram("network.decode.latency");
+
+    private static final byte JSON_START = '{';
+    private static final String TYPE_KEY = "type";
+    private static final String BODY_KEY = "body";
+
+    public static JsonData read(ByteBuf byteBuf) {
+        int start = byteBuf.readerIndex();
+        int end = byteBuf.writerIndex();
+
+        if (byteBuf.readableBytes() < 2 || byteBuf.getByte(start) != JSON_START) {
+            return null;
+        }
+
+        int typeIndex = JsonScanner.find(byteBuf, start, end, TYPE_KEY);
+        int bodyIndex = JsonScanner.find(byteBuf, start, end, BODY_KEY);
+
+        if (typeIndex == JsonScanner.NOT_FOUND || bodyIndex == JsonScanner.NOT_FOUND || byteBuf.getByte(typeIndex) != '"' || byteBuf.getByte(bodyIndex) != JSON_START) {
+            return null;
+        }
+
+        int bodyEnd = JsonScanner.skipValue(byteBuf, bodyIndex, end);
+        String type = JsonScanner.readString(byteBuf, typeIndex, end);
+
+        if (bodyEnd == JsonScanner.NOT_FOUND || type == null) {
+            return null;
+        }
+
+        return new JsonData(type, JsonBody.wrap(Unpooled.wrappedBuffer(ByteBufUtil.getBytes(byteBuf, bodyIndex, bodyEnd - bodyIndex))));
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> out) {
+        long start = System.nanoTime();
+
+        INBOUND_BYTES.add(byteBuf.readableBytes());
+        INBOUND_FRAMES.increment();
+
+        JsonData jsonData = read(byteBuf);
+
+        DECODE.record(System.nanoTime() - start);
+
+        if (jsonData == null) {
+            handleInvalidPacket(ctx, byteBuf);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("[RECEIVED] '{}'", byteBuf.toString(StandardCharsets.UTF_8));
+        }
+
+        out.add(jsonData);
+    }
+
+    private void handleInvalidPacket(ChannelHandlerContext ctx, ByteBuf byteBuf) {
+        INVALID.increment();
+
+        if (log.isDebugEnabled()) {
+            log.debug("Player {} sent an unknown/invalid packet: {}", ctx.channel().remoteAddress(), byteBuf.toString(StandardCharsets.UTF_8));
+        }
+
+        if (ctx.channel().isActive()) {
+            ctx.close();
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.crimson.network.encoder;
+
+import com.crimson.config.Config;
+import com.crimson.config.data.NetworkData;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import com.crimson.network.protocol.Protocol;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+public final class Compression {
+
+    public static final byte[] DICTIONARY = (
+        "\"player\"\"monster\"\"npc\"\"frame\"\"state\"\"name\"\"hp\"\"mp\"\"x\"\"y\"\"id\"\"t\"\"m\"\"v\"" +
+        "\"opcodes\"\"enter\"\"update\"\"leave\"\"tick\"\"replicate\"\"event\"\"request\"" +
+        "{\"type\":\"\",\"cmd\":\"\",\"args\":{},\"body\":{}}"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private static final int HEADER_LENGTH = Protocol.LENGTH_FIELD_LENGTH + 2;
+    private static final int POOL_LIMIT = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final Queue<Deflater> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED = new AtomicInteger(0);
+
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private static final Counter SKIPPED = Metrics.counter("network.compression.skipped");
+
+    private Compression() {
+    }
+
+    public static boolean isEnabled(Channel channel) {
+        return Boolean.TRUE.equals(channel.attr(Protocol.COMPRESSION).get());
+    }
+
+    public static ByteBuf deflate(ByteBufAllocator allocator, ByteBuf frame, String type) {
+        NetworkData profile = Config.singleton().network();
+
+        int start = frame.readerIndex() + Protocol.LENGTH_FIELD_LENGTH;
+        int length = frame.writerIndex() - start;
+
+        if (length - 2 < profile.compressionThreshold()) {
+            SKIPPED.increment();
+            return null;
+        }
+
+        long begin = System.nanoTime();
+
+        Deflater deflater = acquire(profile.compressionLevel());
+        ByteBuf buffer = allocator.buffer(HEADER_LENGTH + length);
+
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(frame.nioBuffer(start, length));
+            deflater.finish();
+
+            buffer.writeShort(0);
+            buffer.writeShort(Protocol.OPCODE_DEFLATE);
+
+            int written = deflater.deflate(buffer.nioBuffer(buffer.writerIndex(), buffer.writableBytes()));
+
+            Stats stats = STATS.computeIfAbsent(type, Stats::new);
+
+            if (!deflater.finished() || written >= length || written + 2 > Protocol.MAX_PAYLOAD_LENGTH) {
+                stats.incompressible.increment();
+                buffer.release();
+                return null;
+            }
+
+            buffer.writerIndex(buffer.writerIndex() + written);
+            buffer.setShort(0, written + 2);
+
+            stats.record(length, written, System.nanoTime() - begin);
+
+            return buffer;
+        } catch (RuntimeException ex) {
+            buffer.release();
+            throw ex;
+        } finally {
+            release(deflater);
+        }
+    }
+
+    private static Deflater acquire(int level) {
+        Deflater deflater = POOL.poll();
+
+        if (deflater == null) {
+            return new Deflater(level, true);
+        }
+
+        POOLED.decrementAndGet();
+        deflater.setLevel(level);
+
+        return deflater;
+    }
+
+    private static void release(Deflater deflater) {
+        if (POOLED.incrementAndGet() > POOL_LIMIT) {
+            POOLED.decrementAndGet();
+            deflater.end();
+            return;
+        }
+
+        deflater.reset();
+        POOL.offer(deflater);
+    }
+
+    private static final class Stats {
+
+        private final Counter in;
+        private final Counter out;
+        private final Counter incompressible;
+        private final Histogram time;
+
+        private Stats(String type) {
+            String prefix = "network.compression." + type;
+
+            this.in = Metrics.counter(prefix + ".in");
+            this.out = Metrics.counter(prefix + ".out");
+            this.incompressible = Metrics.counter(prefix + ".incompressible");
+            this.time = Metrics.histogram(prefix + ".time");
+
+            Metrics.gauge(prefix + ".ratio", () -> in.value() == 0 ? 0 : out.value() * 100 / in.value());
+        }
+
+        private void record(int original, int compressed, long nanos) {
+            in.add(original);
+            out.add(compressed);
+            time.record(nanos);
+        }
+
+    }
+
+}
@@ -1,30 +1,175 @@
 package com.crimson.network.encoder;
 
-import io.netty.buffer.Unpooled;
+import com.crimson.config.Config;
+import com.crimson.interfaces.IMessageCodec;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import com.crimson.network.message.Message;
+import com.crimson.network.protocol.Protocol;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.Channel;
-import io.netty.util.CharsetUtil;
-import net.sf.json.JSONObject;
+import io.netty.handler.codec.EncoderException;
 
-import java.util.List;
+import java.util.Collection;
 
 public class NetworkEncoder {
 
-    private static void write(Channel channel, String content) {
-        channel.writeAndFlush(Unpooled.copiedBuffer(content + '\0', CharsetUtil.UTF_8), channel.voidPromise());
+    private static final IMessageCodec CODEC = Config.singleton().network().codec().codec();
+
+    private static final Counter OUTBOUND_BYTES = Metrics.counter("network.outbound.bytes");
+    private static final Histogram ENCODE = Metrics.histogram("network.encode.latency");
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final String TYPE = "type";
+    private static final String UNTYPED = "untyped";
+
+    private static void write(Channel channel, ByteBuf buffer, Priority priority) {
+        OutboundBatcher batcher = channel.attr(OutboundBatcher.KEY).get();
+
+        if (batcher == null) {
+            OUTBOUND_BYTES.add(buffer.readableBytes());
+            channel.writeAndFlush(buffer, channel.voidPromise());
+            return;
+        }
+
+        batcher.enqueue(buffer, priority);
+    }
+
+    private static Protocol protocol(Channel channel) {
+        return channel.attr(Protocol.KEY).get() == Protocol.BINARY ? Protocol.BINARY : Protocol.JSON;
+    }
+
+    private static ByteBuf encode(ByteBufAllocator allocator, Protocol protocol, Message message, String raw) {
+        long start = System.nanoTime();
+
+        ByteBuf buffer = allocator.buffer(raw != null ? Protocol.LENGTH_FIELD_LENGTH + 2 + ByteBufUtil.utf8MaxBytes(raw) : INITIAL_CAPACITY);
+
+        try {
+            if (protocol == Protocol.BINARY) {
+                buffer.writeShort(0);
+                buffer.writeShort(Protocol.OPCODE_JSON);
+            }
+
+            if (raw != null) {
+                ByteBufUtil.writeUtf8(buffer, raw);
+            } else {
+                CODEC.encode(message, buffer);
+            }
+        } catch (RuntimeException ex) {
+            buffer.release();
+            throw ex;
+        }
+
+        if (protocol == Protocol.JSON) {
+            buffer.writeByte(0);
+        } else {
+            int length = buffer.readableBytes() - Protocol.LENGTH_FIELD_LENGTH;
+
+            if (length > Protocol.MAX_PAYLOAD_LENGTH) {
+                buffer.release();
+                throw new EncoderException(String.format("Binary frame of %d bytes exceeds the %d byte length field", length, Protocol.MAX_PAYLOAD_LENGTH));
+            }
+
+            buffer.setShort(0, length);
+        }
+
+        ENCODE.record(System.nanoTime() - start);
+
+        return buffer;
+    }
+
+    private static String type(Message message) {
+        return message.optString(TYPE, UNTYPED);
+    }
+
+    private static void broadcast(Message message, String raw, String type, Priority priority, Channel exceptChannel, Iterable<Channel> channels) {
+        ByteBuf json = null;
+        ByteBuf binary = null;
+        ByteBuf deflated = null;
+
+        boolean deflateTried = false;
+
+        try {
+            for (Channel channel : channels) {
+                if (channel == exceptChannel || !channel.isActive()) {
+                    continue;
+                }
+
+                if (protocol(channel) == Protocol.BINARY) {
+                    if (binary == null) {
+                        binary = encode(ByteBufAllocator.DEFAULT, Protocol.BINARY, message, raw);
+                    }
+
+                    if (Compression.isEnabled(channel)) {
+                        if (!deflateTried) {
+                            deflated = Compression.deflate(ByteBufAllocator.DEFAULT, binary, type);
+                            deflateTried = true;
+                        }
+
+                        if (deflated != null) {
+                            write(channel, deflated.retainedDuplicate(), priority);
+                            continue;
+                        }
+                    }
+
+                    write(channel, binary.retainedDuplicate(), priority);
+                } else {
+                    if (json == null) {
+                        json = encode(ByteBufAllocator.DEFAULT, Protocol.JSON, message, raw);
+                    }
+
+                    write(channel, json.retainedDuplicate(), priority);
+                }
+            }
+        } finally {
+            if (json != null) {
+                json.release();
+            }
+
+            if (binary != null) {
+                binary.release();
+            }
+
+            if (deflated != null) {
+                deflated.release();
+            }
+        }
+    }
+
+    public static void dispatch(Message message, Channel channel) {
+        Protocol protocol = protocol(channel);
+        ByteBuf buffer = encode(channel.alloc(), protocol, message, null);
+
+        if (protocol == Protocol.BINARY && Compression.isEnabled(channel)) {
+            ByteBuf deflated = Compression.deflate(channel.alloc(), buffer, type(message));
+
+            if (deflated != null) {
+                buffer.release();
+                buffer = deflated;
+            }
+        }
+
+        write(channel, buffer, Priority.HIGH);
+    }
+
+    public static void dispatch(Message message, Collection<Channel> channels) {
+        dispatch(message, channels, Priority.HIGH);
     }
 
-    public static void dispatch(JSONObject jsonObject, Channel channel) {
-        write(channel, jsonObject.toString());
+    public static void dispatch(Message message, Collection<Channel> channels, Priority priority) {
+        broadcast(message, null, type(message), priority, null, channels);
     }
 
-    public static void dispatch(JSONObject jsonObject, List<Channel> channels) {
-        channels.forEach(channel -> write(channel, jsonObject.toString()));
+    public static void dispatchExcept(Message message, Channel exceptChannel, Collection<Channel> channels) {
+        broadcast(message, null, type(message), Priority.HIGH, exceptChannel, channels);
     }
 
-    public static void dispatchExcept(String params, Channel exceptChannel, List<Channel> channels) {
-        channels.stream()
-            .filter(channel -> !channel.equals(exceptChannel))
-            .forEach(channel -> write(channel, params));
+    public static void dispatchExcept(String params, Channel exceptChannel, Collection<Channel> channels) {
+        broadcast(null, params, UNTYPED, Priority.HIGH, exceptChannel, channels);
     }
 
 }
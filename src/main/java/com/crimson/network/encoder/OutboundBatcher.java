@@ -0,0 +1,211 @@
+package com.crimson.network.encoder;
+
+import com.crimson.config.data.NetworkData;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.EventLoop;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+public final class OutboundBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundBatcher.class);
+
+    public static final AttributeKey<OutboundBatcher> KEY = AttributeKey.valueOf("outboundBatcher");
+
+    private static final Counter BYTES = Metrics.counter("network.outbound.bytes");
+    private static final Counter MESSAGES = Metrics.counter("network.outbound.messages");
+    private static final Counter FLUSHES = Metrics.counter("network.outbound.flushes");
+    private static final Counter SAVED = Metrics.counter("network.outbound.flushes.saved");
+    private static final Histogram LATENCY = Metrics.histogram("network.outbound.latency");
+    private static final Histogram PENDING = Metrics.histogram("network.outbound.pending");
+    private static final Counter DROPPED = Metrics.counter("network.outbound.dropped");
+    private static final Counter OVER_BUDGET = Metrics.counter("network.outbound.disconnects");
+
+    private final Channel channel;
+    private final EventLoop eventLoop;
+    private final int flushBytes;
+    private final long flushDelay;
+    private final boolean packFrames;
+    private final long budget;
+
+    private final Runnable flushTask = this::flush;
+
+    private ByteBuf pack;
+    private int pendingMessages;
+    private int pendingBytes;
+    private long firstPendingAt;
+    private ScheduledFuture<?> timer;
+
+    public OutboundBatcher(Channel channel, NetworkData profile) {
+        this.channel = channel;
+        this.eventLoop = channel.eventLoop();
+        this.flushBytes = profile.flushBytes();
+        this.flushDelay = TimeUnit.MICROSECONDS.toNanos(profile.flushDelayMicros());
+        this.packFrames = profile.packFrames();
+        this.budget = profile.outboundBudget();
+    }
+
+    public static void flush(Channel channel) {
+        OutboundBatcher batcher = channel.attr(KEY).get();
+
+        if (batcher == null) {
+            channel.flush();
+            return;
+        }
+
+        batcher.requestFlush();
+    }
+
+    // Runs on the event loop, so writes handed to it earlier (e.g. a disconnect reason) go out first
+    public static void flushAndClose(Channel channel) {
+        EventLoop eventLoop = channel.eventLoop();
+
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> flushAndClose(channel));
+            return;
+        }
+
+        OutboundBatcher batcher = channel.attr(KEY).get();
+
+        if (batcher != null) {
+            batcher.flush();
+        }
+
+        channel.writeAndFlush(Unpooled.EMPTY_BUFFER).addListener(ChannelFutureListener.CLOSE);
+    }
+
+    public static long pendingBytes(Channel channel) {
+        ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+        OutboundBatcher batcher = channel.attr(KEY).get();
+
+        long pending = outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes();
+
+        if (batcher != null && batcher.pack != null) {
+            pending += batcher.pack.readableBytes();
+        }
+
+        return pending;
+    }
+
+    public void enqueue(ByteBuf buffer, Priority priority) {
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> enqueue(buffer, priority));
+            return;
+        }
+
+        if (!channel.isActive()) {
+            buffer.release();
+            return;
+        }
+
+        if (priority == Priority.LOW && !channel.isWritable()) {
+            DROPPED.increment();
+            buffer.release();
+            return;
+        }
+
+        if (pendingBytes(channel) + buffer.readableBytes() > budget) {
+            OVER_BUDGET.increment();
+            buffer.release();
+
+            log.warn("Closing {}: outbound backlog exceeds {} bytes", channel.remoteAddress(), budget);
+
+            close();
+            channel.close();
+            return;
+        }
+
+        if (pendingMessages == 0) {
+            firstPendingAt = System.nanoTime();
+            timer = eventLoop.schedule(flushTask, flushDelay, TimeUnit.NANOSECONDS);
+        }
+
+        pendingMessages++;
+        pendingBytes += buffer.readableBytes();
+
+        BYTES.add(buffer.readableBytes());
+
+        if (packFrames) {
+            if (pack == null) {
+                pack = channel.alloc().buffer(Math.max(flushBytes, buffer.readableBytes()));
+            }
+
+            pack.writeBytes(buffer);
+            buffer.release();
+        } else {
+            channel.write(buffer, channel.voidPromise());
+        }
+
+        if (pendingBytes >= flushBytes) {
+            flush();
+        }
+    }
+
+    public void requestFlush() {
+        if (eventLoop.inEventLoop()) {
+            flush();
+        } else {
+            eventLoop.execute(flushTask);
+        }
+    }
+
+    public void close() {
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(this::close);
+            return;
+        }
+
+        cancelTimer();
+
+        if (pack != null) {
+            pack.release();
+            pack = null;
+        }
+
+        pendingMessages = 0;
+        pendingBytes = 0;
+    }
+
+    private void flush() {
+        if (pendingMessages == 0) {
+            return;
+        }
+
+        cancelTimer();
+
+        if (pack != null) {
+            channel.write(pack, channel.voidPromise());
+            pack = null;
+        }
+
+        channel.flush();
+
+        PENDING.record(pendingBytes(channel));
+        MESSAGES.add(pendingMessages);
+        FLUSHES.increment();
+        SAVED.add(pendingMessages - 1);
+        LATENCY.record(System.nanoTime() - firstPendingAt);
+
+        pendingMessages = 0;
+        pendingBytes = 0;
+    }
+
+    private void cancelTimer() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.crimson.network.encoder;
+
+public enum Priority {
+    HIGH,
+    LOW
+}
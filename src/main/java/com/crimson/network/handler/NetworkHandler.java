@@ -1,15 +1,23 @@
 package com.crimson.network.handler;
 
 import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.config.Config;
 import com.crimson.controller.PlayerController;
+import com.crimson.network.data.JsonBody;
 import com.crimson.network.data.JsonData;
+import com.crimson.network.encoder.OutboundBatcher;
 import com.crimson.requests.RequestFactory;
+import com.crimson.requests.data.RequestData;
+import com.crimson.requests.executor.Mailbox;
+import com.crimson.requests.executor.RequestExecutor;
+import com.crimson.requests.limiter.TokenBucket;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
-import net.sf.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.locks.LockSupport;
+
 public class NetworkHandler extends SimpleChannelInboundHandler<JsonData> {
 
     private static final Logger log = LoggerFactory.getLogger(NetworkHandler.class);
@@ -23,7 +31,7 @@ public class NetworkHandler extends SimpleChannelInboundHandler<JsonData> {
     private static final String EVENT_LOGIN = "login";
     private static final String EVENT_REGISTER = "register";
 
-    private static void handleRequest(ChannelHandlerContext ctx, JSONObject json) {
+    private static void handleRequest(ChannelHandlerContext ctx, JsonBody json) {
         PlayerAvatar playerAvatar = ctx.channel().attr(PlayerController.PLAYER_KEY).get();
 
         if (playerAvatar == null) {
@@ -31,15 +39,28 @@ public class NetworkHandler extends SimpleChannelInboundHandler<JsonData> {
             return;
         }
 
-        RequestFactory.get(json.getString(REQUEST_NAME)).run(playerAvatar, json.getJSONObject(REQUEST_JSON));
+        RequestData requestData = RequestFactory.get(json.getString(REQUEST_NAME));
+
+        long delay = playerAvatar.rateLimiter().acquire(requestData);
+
+        if (delay == TokenBucket.DENIED) {
+            log.debug("Throttled request '{}' from player {}", requestData.annotation().name(), playerAvatar.name());
+            return;
+        }
+
+        if (delay > TokenBucket.GRANTED) {
+            LockSupport.parkNanos(delay);
+        }
+
+        requestData.run(playerAvatar, json.getBody(REQUEST_JSON));
     }
 
-    private static void handleEvent(ChannelHandlerContext ctx, JSONObject json) {
+    private static void handleEvent(ChannelHandlerContext ctx, JsonBody json) {
         String cmd = json.getString(REQUEST_NAME);
 
         switch (cmd) {
-            case EVENT_LOGIN -> PlayerController.login(ctx.channel(), json.getJSONObject(REQUEST_JSON));
-            case EVENT_REGISTER -> PlayerController.register(ctx.channel(), json.getJSONObject(REQUEST_JSON));
+            case EVENT_LOGIN -> PlayerController.login(ctx.channel(), json.getBody(REQUEST_JSON).message());
+            case EVENT_REGISTER -> PlayerController.register(ctx.channel(), json.getBody(REQUEST_JSON).message());
             default -> throw new IllegalStateException("Unexpected event: " + cmd);
         }
     }
@@ -49,14 +70,14 @@ public class NetworkHandler extends SimpleChannelInboundHandler<JsonData> {
 
         log.warn("Player does not exist for IP: {}", ip);
 
-        ctx.disconnect();
+        OutboundBatcher.flushAndClose(ctx.channel());
     }
 
     private static void handleException(ChannelHandlerContext ctx, Exception ex) {
         log.error("Failed to handle json. Reason: {}", ex.getMessage());
 
         if (ctx.channel().isActive()) {
-            ctx.close();
+            OutboundBatcher.flushAndClose(ctx.channel());
         }
     }
 
@@ -64,10 +85,9 @@ public class NetworkHandler extends SimpleChannelInboundHandler<JsonData> {
         return ctx.channel().remoteAddress().toString().replace("/", "").split(":")[0];
     }
 
-    @Override
-    protected void channelRead0(ChannelHandlerContext ctx, JsonData jsonData) {
+    private static void handle(ChannelHandlerContext ctx, JsonData jsonData) {
         try {
-            JSONObject json = jsonData.json();
+            JsonBody json = jsonData.body();
 
             switch (jsonData.type()) {
                 case REQUEST -> handleRequest(ctx, json);
@@ -79,17 +99,32 @@ public class NetworkHandler extends SimpleChannelInboundHandler<JsonData> {
         }
     }
 
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, JsonData jsonData) {
+        Mailbox mailbox = ctx.channel().attr(Mailbox.KEY).get();
+
+        if (!mailbox.offer(() -> handle(ctx, jsonData))) {
+            log.warn("Mailbox full ({} pending) for IP: {}", mailbox.depth(), getIpAddress(ctx));
+
+            OutboundBatcher.flushAndClose(ctx.channel());
+        }
+    }
 
     @Override
     public void channelRegistered(ChannelHandlerContext ctx) {
         String ip = getIpAddress(ctx);
         log.debug("Connection established from IP: {}", ip);
+
+        ctx.channel().attr(Mailbox.KEY).set(new Mailbox(RequestExecutor.executor(), Config.singleton().dispatch().mailboxCapacity()));
+        ctx.channel().attr(OutboundBatcher.KEY).set(new OutboundBatcher(ctx.channel(), Config.singleton().network()));
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
         String ip = getIpAddress(ctx);
 
+        ctx.channel().attr(OutboundBatcher.KEY).get().close();
+
         PlayerAvatar playerAvatar = ctx.channel().attr(PlayerController.PLAYER_KEY).get();
 
         if (playerAvatar == null) {
@@ -97,14 +132,9 @@ public class NetworkHandler extends SimpleChannelInboundHandler<JsonData> {
             return;
         }
 
-        log.info("Player disconnected - Username: {}, Network ID: {}, IP: {}", playerAvatar.data().name(), playerAvatar.data().id(), ip);
+        log.info("Player disconnected - Username: {}, Network ID: {}, IP: {}", playerAvatar.name(), playerAvatar.networkId(), ip);
 
-        playerAvatar.network().disconnect();
-    }
-
-    @Override
-    public void channelReadComplete(ChannelHandlerContext ctx) {
-        ctx.flush();
+        playerAvatar.mailbox().execute(() -> PlayerController.unregister(playerAvatar));
     }
 
     @Override
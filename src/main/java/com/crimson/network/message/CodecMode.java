@@ -0,0 +1,21 @@
+package com.crimson.network.message;
+
+import com.crimson.interfaces.IMessageCodec;
+import com.crimson.network.message.codec.JacksonMessageCodec;
+import com.crimson.network.message.codec.JsonLibMessageCodec;
+
+public enum CodecMode {
+    JACKSON(JacksonMessageCodec.INSTANCE),
+    JSON_LIB(JsonLibMessageCodec.INSTANCE);
+
+    private final IMessageCodec codec;
+
+    CodecMode(IMessageCodec codec) {
+        this.codec = codec;
+    }
+
+    public IMessageCodec codec() {
+        return codec;
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.crimson.network.message;
+
+import com.crimson.exceptions.MessageException;
+import com.crimson.network.message.codec.JacksonMessageCodec;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class Message {
+
+    private final Map<String, Object> values;
+
+    public Message() {
+        this.values = new LinkedHashMap<>();
+    }
+
+    public Message(int expectedSize) {
+        this.values = LinkedHashMap.newLinkedHashMap(expectedSize);
+    }
+
+    public Message element(String key, Object value) {
+        values.put(key, value);
+        return this;
+    }
+
+    public boolean has(String key) {
+        return values.containsKey(key);
+    }
+
+    public Object get(String key) {
+        return values.get(key);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public Set<String> keySet() {
+        return values.keySet();
+    }
+
+    public Map<String, Object> values() {
+        return values;
+    }
+
+    public String getString(String key) {
+        Object value = require(key);
+        return value instanceof String string ? string : String.valueOf(value);
+    }
+
+    public String optString(String key, String defaultValue) {
+        Object value = values.get(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        return value instanceof String string ? string : String.valueOf(value);
+    }
+
+    public int getInt(String key) {
+        return number(key, require(key)).intValue();
+    }
+
+    public int optInt(String key, int defaultValue) {
+        Object value = values.get(key);
+        return value == null ? defaultValue : number(key, value).intValue();
+    }
+
+    public long getLong(String key) {
+        return number(key, require(key)).longValue();
+    }
+
+    public double getDouble(String key) {
+        return number(key, require(key)).doubleValue();
+    }
+
+    public boolean getBoolean(String key) {
+        Object value = require(key);
+
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+
+        if (value instanceof String string && (string.equalsIgnoreCase("true") || string.equalsIgnoreCase("false"))) {
+            return Boolean.parseBoolean(string);
+        }
+
+        throw new MessageException("Message[\"" + key + "\"] is not a boolean.");
+    }
+
+    public Message getMessage(String key) {
+        if (require(key) instanceof Message message) {
+            return message;
+        }
+
+        throw new MessageException("Message[\"" + key + "\"] is not a message.");
+    }
+
+    public Message optMessage(String key) {
+        return values.get(key) instanceof Message message ? message : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object> getList(String key) {
+        if (require(key) instanceof List<?> list) {
+            return (List<Object>) list;
+        }
+
+        throw new MessageException("Message[\"" + key + "\"] is not a list.");
+    }
+
+    private Object require(String key) {
+        Object value = values.get(key);
+
+        if (value == null) {
+            throw new MessageException("Message[\"" + key + "\"] not found.");
+        }
+
+        return value;
+    }
+
+    private static Number number(String key, Object value) {
+        if (value instanceof Number number) {
+            return number;
+        }
+
+        if (value instanceof String string) {
+            try {
+                return string.indexOf('.') >= 0 ? Double.parseDouble(string) : Long.parseLong(string);
+            } catch (NumberFormatException ex) {
+                throw new MessageException("Message[\"" + key + "\"] is not a number.", ex);
+            }
+        }
+
+        throw new MessageException("Message[\"" + key + "\"] is not a number.");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Message message && values.equals(message.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return JacksonMessageCodec.INSTANCE.encodeToString(this);
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.crimson.network.message.codec;
+
+import com.crimson.exceptions.MessageException;
+import com.crimson.interfaces.IMessageCodec;
+import com.crimson.network.message.Message;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class JacksonMessageCodec implements IMessageCodec {
+
+    public static final JacksonMessageCodec INSTANCE = new JacksonMessageCodec();
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+        .disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+        .build();
+
+    private JacksonMessageCodec() {
+    }
+
+    @Override
+    public Message decode(ByteBuf buffer) {
+        try (JsonParser parser = parser(buffer)) {
+            return read(parser);
+        } catch (IOException ex) {
+            throw new MessageException("Failed to decode message", ex);
+        }
+    }
+
+    @Override
+    public Message decode(String content) {
+        try (JsonParser parser = FACTORY.createParser(content)) {
+            return read(parser);
+        } catch (IOException ex) {
+            throw new MessageException("Failed to decode message", ex);
+        }
+    }
+
+    @Override
+    public void encode(Message message, ByteBuf out) {
+        try (JsonGenerator generator = FACTORY.createGenerator((OutputStream) new ByteBufOutputStream(out))) {
+            writeMessage(generator, message);
+        } catch (IOException ex) {
+            throw new MessageException("Failed to encode message", ex);
+        }
+    }
+
+    @Override
+    public String encodeToString(Message message) {
+        StringWriter writer = new StringWriter();
+
+        try (JsonGenerator generator = FACTORY.createGenerator(writer)) {
+            writeMessage(generator, message);
+        } catch (IOException ex) {
+            throw new MessageException("Failed to encode message", ex);
+        }
+
+        return writer.toString();
+    }
+
+    private static JsonParser parser(ByteBuf buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return FACTORY.createParser(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+        }
+
+        return FACTORY.createParser((InputStream) new ByteBufInputStream(buffer.duplicate()));
+    }
+
+    private static Message read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new MessageException("Message must be a JSON object");
+        }
+
+        return readMessage(parser);
+    }
+
+    private static Message readMessage(JsonParser parser) throws IOException {
+        Message message = new Message();
+
+        String key;
+
+        while ((key = parser.nextFieldName()) != null) {
+            message.element(key, readValue(parser, parser.nextToken()));
+        }
+
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new MessageException("Malformed message object");
+        }
+
+        return message;
+    }
+
+    private static List<Object> readList(JsonParser parser) throws IOException {
+        List<Object> list = new ArrayList<>();
+
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new MessageException("Unterminated array");
+            }
+
+            list.add(readValue(parser, token));
+        }
+
+        return list;
+    }
+
+    private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null) {
+            throw new MessageException("Unexpected end of message");
+        }
+
+        return switch (token) {
+            case START_OBJECT -> readMessage(parser);
+            case START_ARRAY -> readList(parser);
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.INT ? parser.getIntValue() : parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> throw new MessageException("Unexpected token " + token);
+        };
+    }
+
+    private static void writeMessage(JsonGenerator generator, Message message) throws IOException {
+        generator.writeStartObject();
+
+        for (Map.Entry<String, Object> entry : message.values().entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeValue(generator, entry.getValue());
+        }
+
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        switch (value) {
+            case null -> generator.writeNull();
+            case String string -> generator.writeString(string);
+            case Integer number -> generator.writeNumber(number);
+            case Long number -> generator.writeNumber(number);
+            case Double number -> generator.writeNumber(number);
+            case Float number -> generator.writeNumber(number);
+            case Number number -> generator.writeNumber(number.toString());
+            case Boolean bool -> generator.writeBoolean(bool);
+            case Message message -> writeMessage(generator, message);
+            case Map<?, ?> map -> {
+                generator.writeStartObject();
+
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    generator.writeFieldName(String.valueOf(entry.getKey()));
+                    writeValue(generator, entry.getValue());
+                }
+
+                generator.writeEndObject();
+            }
+            case Iterable<?> iterable -> {
+                generator.writeStartArray();
+
+                for (Object element : iterable) {
+                    writeValue(generator, element);
+                }
+
+                generator.writeEndArray();
+            }
+            case int[] array -> generator.writeArray(array, 0, array.length);
+            case long[] array -> generator.writeArray(array, 0, array.length);
+            case Object[] array -> {
+                generator.writeStartArray();
+
+                for (Object element : array) {
+                    writeValue(generator, element);
+                }
+
+                generator.writeEndArray();
+            }
+            default -> generator.writeString(value.toString());
+        }
+    }
+
+}
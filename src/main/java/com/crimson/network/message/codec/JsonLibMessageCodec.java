@@ -0,0 +1,105 @@
+package com.crimson.network.message.codec;
+
+import com.crimson.exceptions.MessageException;
+import com.crimson.interfaces.IMessageCodec;
+import com.crimson.network.message.Message;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONException;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class JsonLibMessageCodec implements IMessageCodec {
+
+    public static final JsonLibMessageCodec INSTANCE = new JsonLibMessageCodec();
+
+    private JsonLibMessageCodec() {
+    }
+
+    @Override
+    public Message decode(ByteBuf buffer) {
+        return decode(buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Message decode(String content) {
+        try {
+            return toMessage(JSONObject.fromObject(content));
+        } catch (JSONException ex) {
+            throw new MessageException("Failed to decode message", ex);
+        }
+    }
+
+    @Override
+    public void encode(Message message, ByteBuf out) {
+        ByteBufUtil.writeUtf8(out, encodeToString(message));
+    }
+
+    @Override
+    public String encodeToString(Message message) {
+        return toJson(message).toString();
+    }
+
+    private static Message toMessage(JSONObject jsonObject) {
+        Message message = new Message(jsonObject.size());
+
+        for (Object key : jsonObject.keySet()) {
+            message.element((String) key, fromJson(jsonObject.get(key)));
+        }
+
+        return message;
+    }
+
+    private static Object fromJson(Object value) {
+        if (value instanceof JSONObject jsonObject) {
+            return jsonObject.isNullObject() ? null : toMessage(jsonObject);
+        }
+
+        if (value instanceof JSONArray jsonArray) {
+            List<Object> list = new ArrayList<>(jsonArray.size());
+
+            for (Object element : jsonArray) {
+                list.add(fromJson(element));
+            }
+
+            return list;
+        }
+
+        return value instanceof JSONNull ? null : value;
+    }
+
+    private static JSONObject toJson(Message message) {
+        JSONObject jsonObject = new JSONObject();
+
+        for (Map.Entry<String, Object> entry : message.values().entrySet()) {
+            jsonObject.element(entry.getKey(), toJson(entry.getValue()));
+        }
+
+        return jsonObject;
+    }
+
+    private static Object toJson(Object value) {
+        if (value instanceof Message message) {
+            return toJson(message);
+        }
+
+        if (value instanceof Iterable<?> iterable) {
+            JSONArray jsonArray = new JSONArray();
+
+            for (Object element : iterable) {
+                jsonArray.add(toJson(element));
+            }
+
+            return jsonArray;
+        }
+
+        return value == null ? JSONNull.getInstance() : value;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.crimson.network.protocol;
+
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import com.crimson.network.data.JsonBody;
+import com.crimson.network.data.JsonData;
+import com.crimson.network.decoder.NetworkStreamDecoder;
+import com.crimson.network.message.Message;
+import com.crimson.requests.RequestFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class BinaryDecoder extends MessageToMessageDecoder<ByteBuf> {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryDecoder.class);
+
+    private static final Counter INBOUND_BYTES = Metrics.counter("network.inbound.bytes");
+    private static final Counter INBOUND_FRAMES = Metrics.counter("network.inbound.frames");
+    private static final Counter INVALID = Metrics.counter("network.inbound.invalid");
+    private static final Histogram DECODE = Metrics.histogram("network.decode.latency");
+
+    private static final String REQUEST = "request";
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> out) {
+        long start = System.nanoTime();
+
+        INBOUND_BYTES.add(byteBuf.readableBytes());
+        INBOUND_FRAMES.increment();
+
+        try {
+            decodeFrame(ctx, byteBuf, out);
+        } finally {
+            DECODE.record(System.nanoTime() - start);
+        }
+    }
+
+    private void decodeFrame(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> out) {
+        if (byteBuf.readableBytes() < 2) {
+            handleInvalidPacket(ctx, -1);
+            return;
+        }
+
+        int opcode = byteBuf.readUnsignedShort();
+
+        if (opcode == Protocol.OPCODE_JSON) {
+            JsonData jsonData = NetworkStreamDecoder.read(byteBuf);
+
+            if (jsonData == null) {
+                handleInvalidPacket(ctx, opcode);
+                return;
+            }
+
+            out.add(jsonData);
+            return;
+        }
+
+        String name = RequestFactory.name(opcode);
+
+        if (name == null) {
+            handleInvalidPacket(ctx, opcode);
+            return;
+        }
+
+        try {
+            Message args = RequestFactory.codec(opcode).decode(byteBuf);
+
+            out.add(new JsonData(REQUEST, JsonBody.of(new Message(2).element("cmd", name).element("args", args))));
+        } catch (Exception ex) {
+            handleInvalidPacket(ctx, opcode);
+            log.error("Binary decode error occurred", ex);
+        }
+    }
+
+    private void handleInvalidPacket(ChannelHandlerContext ctx, int opcode) {
+        INVALID.increment();
+
+        log.debug("Player {} sent an unknown/invalid binary frame (opcode: {})", ctx.channel().remoteAddress(), opcode);
+
+        if (ctx.channel().isActive()) {
+            ctx.close();
+        }
+    }
+
+}
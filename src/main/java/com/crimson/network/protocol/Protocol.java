@@ -0,0 +1,27 @@
+package com.crimson.network.protocol;
+
+import io.netty.util.AttributeKey;
+
+public enum Protocol {
+    JSON,
+    BINARY;
+
+    public static final AttributeKey<Protocol> KEY = AttributeKey.valueOf("Protocol");
+
+    public static final AttributeKey<Boolean> COMPRESSION = AttributeKey.valueOf("Compression");
+
+    public static final int HANDSHAKE = 0xC5;
+
+    public static final int FLAG_COMPRESSION = 0x01;
+
+    public static final int OPCODE_JSON = 0;
+
+    public static final int OPCODE_DEFLATE = 0xFFFF;
+
+    public static final int MAX_FRAME_LENGTH = 4096;
+
+    public static final int LENGTH_FIELD_LENGTH = 2;
+
+    public static final int MAX_PAYLOAD_LENGTH = 0xFFFF;
+
+}
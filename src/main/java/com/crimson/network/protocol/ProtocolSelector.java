@@ -0,0 +1,80 @@
+package com.crimson.network.protocol;
+
+import com.crimson.config.Config;
+import com.crimson.network.decoder.DecoderMode;
+import com.crimson.network.decoder.NetworkDecoder;
+import com.crimson.network.decoder.NetworkStreamDecoder;
+import com.crimson.network.encoder.NetworkEncoder;
+import com.crimson.network.message.Message;
+import com.crimson.requests.RequestFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DelimiterBasedFrameDecoder;
+import io.netty.handler.codec.Delimiters;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class ProtocolSelector extends ByteToMessageDecoder {
+
+    private static final Logger log = LoggerFactory.getLogger(ProtocolSelector.class);
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (!in.isReadable()) {
+            return;
+        }
+
+        if (in.getUnsignedByte(in.readerIndex()) != Protocol.HANDSHAKE) {
+            selectJson(ctx);
+            return;
+        }
+
+        if (in.readableBytes() < 2) {
+            return;
+        }
+
+        in.skipBytes(1);
+
+        selectBinary(ctx, in.readUnsignedByte());
+    }
+
+    private void selectJson(ChannelHandlerContext ctx) {
+        ctx.channel().attr(Protocol.KEY).set(Protocol.JSON);
+
+        ChannelPipeline pipeline = ctx.pipeline();
+
+        pipeline.addAfter(ctx.name(), "framer", new DelimiterBasedFrameDecoder(Protocol.MAX_FRAME_LENGTH, Delimiters.nulDelimiter()));
+        pipeline.addAfter("framer", "gameDecoder", Config.singleton().network().decoder() == DecoderMode.STREAMING ? new NetworkStreamDecoder() : new NetworkDecoder());
+        pipeline.remove(this);
+    }
+
+    private void selectBinary(ChannelHandlerContext ctx, int flags) {
+        ctx.channel().attr(Protocol.KEY).set(Protocol.BINARY);
+
+        ChannelPipeline pipeline = ctx.pipeline();
+
+        pipeline.addAfter(ctx.name(), "framer", new LengthFieldBasedFrameDecoder(Protocol.MAX_FRAME_LENGTH + Protocol.LENGTH_FIELD_LENGTH, 0, Protocol.LENGTH_FIELD_LENGTH, 0, Protocol.LENGTH_FIELD_LENGTH));
+        pipeline.addAfter("framer", "gameDecoder", new BinaryDecoder());
+        pipeline.remove(this);
+
+        boolean compression = (flags & Protocol.FLAG_COMPRESSION) != 0 && Config.singleton().network().compression();
+
+        log.debug("Binary protocol selected by {} (flags: {}, compression: {})", ctx.channel().remoteAddress(), flags, compression);
+
+        NetworkEncoder.dispatch(
+            new Message()
+                .element("type", "opcodes")
+                .element("opcodes", RequestFactory.opcodes())
+                .element("compression", compression),
+            ctx.channel()
+        );
+
+        ctx.channel().attr(Protocol.COMPRESSION).set(compression);
+    }
+
+}
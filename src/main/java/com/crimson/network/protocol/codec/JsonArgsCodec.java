@@ -0,0 +1,23 @@
+package com.crimson.network.protocol.codec;
+
+import com.crimson.config.Config;
+import com.crimson.interfaces.IBinaryCodec;
+import com.crimson.interfaces.IMessageCodec;
+import com.crimson.network.message.Message;
+import io.netty.buffer.ByteBuf;
+
+public class JsonArgsCodec implements IBinaryCodec {
+
+    private static final IMessageCodec CODEC = Config.singleton().network().codec().codec();
+
+    @Override
+    public Message decode(ByteBuf payload) {
+        return payload.isReadable() ? CODEC.decode(payload) : new Message();
+    }
+
+    @Override
+    public void encode(Message args, ByteBuf out) {
+        CODEC.encode(args, out);
+    }
+
+}
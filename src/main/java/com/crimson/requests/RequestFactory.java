@@ -1,21 +1,26 @@
 package com.crimson.requests;
 
 import com.crimson.annotations.Request;
+import com.crimson.interfaces.IBinaryCodec;
 import com.crimson.interfaces.IRequest;
+import com.crimson.interfaces.ITypedRequest;
 import com.crimson.requests.data.RequestData;
 import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.*;
+import java.util.function.Supplier;
 
 public class RequestFactory {
 
     private static final Logger log = LoggerFactory.getLogger(RequestFactory.class);
-    private static final HashMap<String, RequestData> REQUESTS_DEFAULT = new HashMap<>();
+
+    private static final Map<String, RequestData> REQUESTS_DEFAULT;
+    private static final Map<String, Integer> OPCODES;
+    private static final RequestData[] TABLE;
+
+    private static final RequestData DEFAULT;
 
     static {
         Reflections reflections = new Reflections("com.crimson.requests.calls");
@@ -25,11 +30,16 @@ public class RequestFactory {
         TreeSet<Class<? extends IRequest>> sortedRequests = new TreeSet<>(Comparator.comparing(Class::getName));
 
         sortedRequests.addAll(requests);
+        sortedRequests.addAll(reflections.getSubTypesOf(ITypedRequest.class));
+
+        HashMap<String, RequestData> requestsDefault = new HashMap<>();
 
         sortedRequests
             .forEach(request -> {
                 Request[] requestAnnotations = request.getDeclaredAnnotationsByType(Request.class);
 
+                Supplier<IRequest> sharedFactory = null;
+
                 for (Request requestAnnotation : requestAnnotations) {
                     if (requestAnnotation == null) {
                         log.warn("Not found '{}'", request.getName());
@@ -38,14 +48,71 @@ public class RequestFactory {
 
                     log.info("'{}': '{}'", requestAnnotation.name(), request.getName());
 
-                    //noinspection unchecked
-                    RequestFactory.REQUESTS_DEFAULT.put(requestAnnotation.name(), new RequestData(requestAnnotation, (Class<IRequest>) request));
+                    @SuppressWarnings("unchecked")
+                    Class<IRequest> requestClass = (Class<IRequest>) request;
+
+                    Supplier<IRequest> factory;
+
+                    if (!requestAnnotation.shared()) {
+                        factory = RequestData.factory(requestClass, false);
+                    } else {
+                        if (sharedFactory == null) {
+                            sharedFactory = RequestData.factory(requestClass, true);
+                        }
+
+                        factory = sharedFactory;
+                    }
+
+                    requestsDefault.put(requestAnnotation.name(), RequestData.of(requestAnnotation, requestClass, factory));
                 }
             });
+
+        List<String> names = requestsDefault.keySet().stream().sorted().toList();
+
+        HashMap<String, Integer> opcodes = new HashMap<>();
+
+        TABLE = new RequestData[names.size() + 1];
+
+        for (int opcode = 1; opcode <= names.size(); opcode++) {
+            String name = names.get(opcode - 1);
+
+            TABLE[opcode] = requestsDefault.get(name);
+            opcodes.put(name, opcode);
+        }
+
+        REQUESTS_DEFAULT = Map.copyOf(requestsDefault);
+        OPCODES = Map.copyOf(opcodes);
+        DEFAULT = requestsDefault.get("default");
     }
 
     public static RequestData get(String request) {
-        return RequestFactory.REQUESTS_DEFAULT.getOrDefault(request, RequestFactory.REQUESTS_DEFAULT.get("default"));
+        RequestData requestData = RequestFactory.REQUESTS_DEFAULT.get(request);
+
+        return requestData != null ? requestData : RequestFactory.DEFAULT;
+    }
+
+    public static RequestData get(int opcode) {
+        return opcode > 0 && opcode < RequestFactory.TABLE.length ? RequestFactory.TABLE[opcode] : RequestFactory.DEFAULT;
+    }
+
+    public static int opcode(String request) {
+        return RequestFactory.OPCODES.getOrDefault(request, -1);
+    }
+
+    public static String name(int opcode) {
+        return opcode > 0 && opcode < RequestFactory.TABLE.length ? RequestFactory.TABLE[opcode].annotation().name() : null;
+    }
+
+    public static IBinaryCodec codec(int opcode) {
+        if (opcode <= 0 || opcode >= RequestFactory.TABLE.length) {
+            throw new IllegalArgumentException("Unknown opcode " + opcode);
+        }
+
+        return RequestFactory.TABLE[opcode].codec();
+    }
+
+    public static Map<String, Integer> opcodes() {
+        return RequestFactory.OPCODES;
     }
 
 }
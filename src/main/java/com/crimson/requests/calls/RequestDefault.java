@@ -1,19 +1,21 @@
 package com.crimson.requests.calls;
 
+import com.crimson.annotations.Request;
 import com.crimson.avatar.player.PlayerAvatar;
 import com.crimson.interfaces.IRequest;
-import net.sf.json.JSONObject;
+import com.crimson.network.message.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 
+@Request(name = "default")
 public class RequestDefault implements IRequest {
 
     private static final Logger log = LoggerFactory.getLogger(RequestDefault.class);
 
     @Override
-    public void onRequest(PlayerAvatar playerAvatar, JSONObject jsonObject) throws IOException {
+    public void onRequest(PlayerAvatar playerAvatar, Message message) throws IOException {
         log.info("Default request called");
     }
 
@@ -0,0 +1,21 @@
+package com.crimson.requests.calls;
+
+import com.crimson.annotations.Request;
+import com.crimson.area.AreaInstance;
+import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.interfaces.IRequest;
+import com.crimson.network.message.Message;
+
+@Request(name = "resync")
+public class RequestResync implements IRequest {
+
+    @Override
+    public void onRequest(PlayerAvatar playerAvatar, Message message) {
+        AreaInstance area = playerAvatar.area();
+
+        if (area != null) {
+            area.resync(playerAvatar);
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.crimson.requests.data;
+
+import com.crimson.exceptions.MessageException;
+import com.crimson.interfaces.ITypedRequest;
+import com.crimson.network.data.JsonBody;
+import com.crimson.network.message.Message;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+public final class ArgsBinder {
+
+    private static final Map<Class<?>, MethodHandle> READERS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            READERS = Map.of(
+                int.class, reader(lookup, "readInt", int.class),
+                long.class, reader(lookup, "readLong", long.class),
+                double.class, reader(lookup, "readDouble", double.class),
+                boolean.class, reader(lookup, "readBoolean", boolean.class),
+                String.class, reader(lookup, "readString", String.class),
+                Message.class, reader(lookup, "readMessage", Message.class)
+            );
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private static final ClassValue<ArgsBinder> BINDERS = new ClassValue<>() {
+        @Override
+        protected ArgsBinder computeValue(Class<?> type) {
+            return create(type.asSubclass(Record.class));
+        }
+    };
+
+    private static final ClassValue<Class<? extends Record>> ARGS = new ClassValue<>() {
+        @Override
+        protected Class<? extends Record> computeValue(Class<?> request) {
+            for (Class<?> type = request; type != null; type = type.getSuperclass()) {
+                for (Type generic : type.getGenericInterfaces()) {
+                    if (generic instanceof ParameterizedType parameterized && parameterized.getRawType() == ITypedRequest.class && parameterized.getActualTypeArguments()[0] instanceof Class<?> args) {
+                        return args.asSubclass(Record.class);
+                    }
+                }
+            }
+
+            throw new IllegalStateException("Cannot resolve the args record of " + request.getName() + " from its ITypedRequest declaration");
+        }
+    };
+
+    private final Class<? extends Record> type;
+    private final MethodHandle binder;
+
+    private ArgsBinder(Class<? extends Record> type, MethodHandle binder) {
+        this.type = type;
+        this.binder = binder;
+    }
+
+    public static ArgsBinder of(Class<? extends Record> type) {
+        return BINDERS.get(type);
+    }
+
+    public static Class<? extends Record> argsOf(Class<?> request) {
+        return ARGS.get(request);
+    }
+
+    private static ArgsBinder create(Class<? extends Record> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameters = new Class<?>[components.length];
+        MethodHandle[] readers = new MethodHandle[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            MethodHandle reader = READERS.get(components[i].getType());
+
+            if (reader == null) {
+                throw new IllegalStateException("Unsupported argument type " + components[i].getType().getName() + " for " + type.getName() + "." + components[i].getName());
+            }
+
+            parameters[i] = components[i].getType();
+            readers[i] = MethodHandles.insertArguments(reader, 1, components[i].getName());
+        }
+
+        try {
+            MethodHandle constructor = MethodHandles.privateLookupIn(type, MethodHandles.lookup()).findConstructor(type, MethodType.methodType(void.class, parameters));
+            MethodHandle binder = MethodHandles.permuteArguments(
+                MethodHandles.filterArguments(constructor, 0, readers),
+                MethodType.methodType(type, JsonBody.class),
+                new int[components.length]
+            );
+
+            return new ArgsBinder(type, binder.asType(MethodType.methodType(Record.class, JsonBody.class)));
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to create binder for " + type.getName(), ex);
+        }
+    }
+
+    public Class<? extends Record> type() {
+        return type;
+    }
+
+    public Record bind(JsonBody body) {
+        try {
+            return (Record) binder.invokeExact(body);
+        } catch (MessageException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new MessageException("Failed to bind " + type.getSimpleName(), ex);
+        }
+    }
+
+    private static MethodHandle reader(MethodHandles.Lookup lookup, String name, Class<?> type) throws ReflectiveOperationException {
+        return lookup.findStatic(ArgsBinder.class, name, MethodType.methodType(type, JsonBody.class, String.class));
+    }
+
+    private static int readInt(JsonBody body, String key) {
+        return body.getInt(key);
+    }
+
+    private static long readLong(JsonBody body, String key) {
+        return body.getLong(key);
+    }
+
+    private static double readDouble(JsonBody body, String key) {
+        return body.getDouble(key);
+    }
+
+    private static boolean readBoolean(JsonBody body, String key) {
+        return body.getBoolean(key);
+    }
+
+    private static String readString(JsonBody body, String key) {
+        return body.optString(key);
+    }
+
+    private static Message readMessage(JsonBody body, String key) {
+        return body.has(key) ? body.getBody(key).message() : null;
+    }
+
+}
@@ -2,26 +2,125 @@ package com.crimson.requests.data;
 
 import com.crimson.annotations.Request;
 import com.crimson.avatar.player.PlayerAvatar;
+import com.crimson.exceptions.MessageException;
+import com.crimson.interfaces.IBinaryCodec;
 import com.crimson.interfaces.IRequest;
-import net.sf.json.JSONObject;
+import com.crimson.interfaces.ITypedRequest;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import com.crimson.network.data.JsonBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
 
-public record RequestData(Request annotation, Class<IRequest> request) {
+public record RequestData(Request annotation, Class<IRequest> request, Supplier<IRequest> factory, IBinaryCodec codec, ArgsBinder binder, Histogram latency, Counter rejected) {
 
     private static final Logger log = LoggerFactory.getLogger(RequestData.class);
 
-    public IRequest requestInstance() throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        return request().getDeclaredConstructor().newInstance();
+    public static RequestData of(Request annotation, Class<IRequest> request, Supplier<IRequest> factory) {
+        ArgsBinder binder = null;
+
+        if (annotation.cost() < 1) {
+            throw new IllegalStateException("Request '" + annotation.name() + "' declares cost " + annotation.cost() + ", the minimum is 1");
+        }
+
+        if (annotation.rate() < 0 || annotation.burst() < 0) {
+            throw new IllegalStateException("Request '" + annotation.name() + "' declares a negative rate or burst");
+        }
+
+        if (ITypedRequest.class.isAssignableFrom(request)) {
+            if (annotation.args() == Record.class) {
+                throw new IllegalStateException("Request '" + annotation.name() + "' implements ITypedRequest but declares no args record");
+            }
+
+            if (annotation.args() != ArgsBinder.argsOf(request)) {
+                throw new IllegalStateException("Request '" + annotation.name() + "' declares args " + annotation.args().getName() + " but " + request.getName() + " accepts " + ArgsBinder.argsOf(request).getName());
+            }
+
+            binder = ArgsBinder.of(annotation.args());
+        } else if (annotation.args() != Record.class) {
+            throw new IllegalStateException("Request '" + annotation.name() + "' declares args " + annotation.args().getName() + " but does not implement ITypedRequest");
+        }
+
+        try {
+            return new RequestData(
+                annotation,
+                request,
+                factory,
+                annotation.codec().getDeclaredConstructor().newInstance(),
+                binder,
+                Metrics.histogram("request." + annotation.name() + ".latency"),
+                Metrics.counter("request." + annotation.name() + ".rejected")
+            );
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to create codec for request '" + annotation.name() + "'", ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Supplier<IRequest> factory(Class<IRequest> request, boolean shared) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(request, MethodHandles.lookup());
+            MethodHandle constructor = lookup.findConstructor(request, MethodType.methodType(void.class));
+
+            Supplier<IRequest> supplier = (Supplier<IRequest>) LambdaMetafactory.metafactory(
+                lookup,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                constructor,
+                MethodType.methodType(request)
+            ).getTarget().invokeExact();
+
+            if (!shared) {
+                return supplier;
+            }
+
+            IRequest instance = supplier.get();
+
+            return () -> instance;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to create factory for request " + request.getName(), ex);
+        }
     }
 
-    public void run(PlayerAvatar playerAvatar, JSONObject jsonObject) {
+    public IRequest requestInstance() {
+        return factory().get();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void run(PlayerAvatar playerAvatar, JsonBody args) {
+        long start = System.nanoTime();
+
         try {
-            requestInstance().onRequest(playerAvatar, jsonObject);
+            IRequest instance = requestInstance();
+
+            if (binder == null) {
+                instance.onRequest(playerAvatar, args.message());
+                return;
+            }
+
+            Record bound;
+
+            try {
+                bound = binder.bind(args);
+            } catch (MessageException ex) {
+                rejected().increment();
+                log.warn("Rejected request '{}': {}", annotation().name(), ex.getMessage());
+                return;
+            }
+
+            ((ITypedRequest<Record>) instance).onRequest(playerAvatar, bound);
         } catch (Exception ex) {
-            log.info("error on request {}", jsonObject, ex);
+            log.info("error on request {}", args, ex);
+        } finally {
+            latency().record(System.nanoTime() - start);
         }
     }
 
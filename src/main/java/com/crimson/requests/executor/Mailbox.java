@@ -0,0 +1,96 @@
+package com.crimson.requests.executor;
+
+import com.crimson.metrics.Histogram;
+import com.crimson.metrics.Metrics;
+import io.netty.util.AttributeKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Mailbox implements Executor {
+
+    private static final Logger log = LoggerFactory.getLogger(Mailbox.class);
+
+    public static final AttributeKey<Mailbox> KEY = AttributeKey.valueOf("Mailbox");
+
+    private static final Histogram QUEUE_WAIT = Metrics.histogram("requests.queue.wait");
+
+    private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final Executor executor;
+    private final int capacity;
+
+    public Mailbox(Executor executor, int capacity) {
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    public boolean offer(Runnable runnable) {
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            return false;
+        }
+
+        enqueue(runnable);
+        return true;
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        depth.incrementAndGet();
+        enqueue(runnable);
+    }
+
+    public int depth() {
+        return depth.get();
+    }
+
+    private void enqueue(Runnable runnable) {
+        tasks.offer(new Task(runnable, System.nanoTime()));
+        RequestExecutor.QUEUE_DEPTH.increment();
+
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Task task;
+
+            while ((task = tasks.poll()) != null) {
+                depth.decrementAndGet();
+                RequestExecutor.QUEUE_DEPTH.decrement();
+                QUEUE_WAIT.record(System.nanoTime() - task.enqueuedAt());
+
+                try {
+                    task.runnable().run();
+                } catch (Throwable throwable) {
+                    log.error("Mailbox task failed", throwable);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+
+            if (!tasks.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private record Task(Runnable runnable, long enqueuedAt) {
+
+    }
+
+}
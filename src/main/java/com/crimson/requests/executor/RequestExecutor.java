@@ -0,0 +1,26 @@
+package com.crimson.requests.executor;
+
+import com.crimson.metrics.Metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class RequestExecutor {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("request-", 0).factory());
+
+    static final LongAdder QUEUE_DEPTH = new LongAdder();
+
+    static {
+        Metrics.gauge("requests.queue.depth", QUEUE_DEPTH::sum);
+    }
+
+    private RequestExecutor() {
+    }
+
+    public static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.crimson.requests.limiter;
+
+import com.crimson.annotations.Request;
+import com.crimson.config.Config;
+import com.crimson.config.data.DispatchData;
+import com.crimson.metrics.Counter;
+import com.crimson.metrics.Metrics;
+import com.crimson.requests.data.RequestData;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public final class RateLimiter {
+
+    private static final Counter REJECTED = Metrics.counter("ratelimit.rejected");
+    private static final Counter DELAYED = Metrics.counter("ratelimit.delayed");
+
+    private static final Map<String, Counter> REJECTED_BY_COMMAND = new ConcurrentHashMap<>();
+
+    private final DispatchData limits;
+    private final long maxDelay;
+
+    private final TokenBucket player;
+    private final Map<String, TokenBucket> commands = new ConcurrentHashMap<>();
+
+    public RateLimiter() {
+        this(Config.singleton().dispatch());
+    }
+
+    public RateLimiter(DispatchData limits) {
+        this.limits = limits;
+        this.maxDelay = TimeUnit.MILLISECONDS.toNanos(limits.maxDelayMillis());
+        this.player = new TokenBucket(limits.playerRate(), limits.playerBurst());
+    }
+
+    public long acquire(RequestData requestData) {
+        String name = requestData.annotation().name();
+        int cost = requestData.annotation().cost();
+        long now = System.nanoTime();
+
+        long playerDelay = player.acquire(cost, maxDelay, now);
+
+        if (playerDelay == TokenBucket.DENIED) {
+            return reject(name);
+        }
+
+        long commandDelay = commands
+            .computeIfAbsent(name, key -> bucket(requestData.annotation()))
+            .acquire(cost, maxDelay, now);
+
+        if (commandDelay == TokenBucket.DENIED) {
+            player.refund(cost);
+            return reject(name);
+        }
+
+        long delay = Math.max(playerDelay, commandDelay);
+
+        if (delay > TokenBucket.GRANTED) {
+            DELAYED.increment();
+        }
+
+        return delay;
+    }
+
+    private TokenBucket bucket(Request annotation) {
+        return new TokenBucket(
+            annotation.rate() > 0 ? annotation.rate() : limits.commandRate(),
+            annotation.burst() > 0 ? annotation.burst() : limits.commandBurst()
+        );
+    }
+
+    private static long reject(String name) {
+        REJECTED.increment();
+        REJECTED_BY_COMMAND.computeIfAbsent(name, key -> Metrics.counter("request." + key + ".throttled")).increment();
+
+        return TokenBucket.DENIED;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.crimson.requests.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucket {
+
+    public static final long GRANTED = 0;
+    public static final long DENIED = -1;
+
+    private final long interval;
+    private final long limit;
+
+    private final AtomicLong arrival;
+
+    public TokenBucket(int rate, int burst) {
+        this.interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        this.limit = interval * burst;
+        this.arrival = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean tryAcquire(int cost) {
+        return acquire(cost, 0, System.nanoTime()) == GRANTED;
+    }
+
+    public long acquire(int cost, long maxDelay, long now) {
+        long current;
+        long next;
+        long delay;
+
+        do {
+            current = arrival.get();
+            next = Math.max(current, now) + cost * interval;
+            delay = next - now - limit;
+
+            if (delay > maxDelay) {
+                return DENIED;
+            }
+        } while (!arrival.compareAndSet(current, next));
+
+        return Math.max(GRANTED, delay);
+    }
+
+    public void refund(int cost) {
+        arrival.addAndGet(-cost * interval);
+    }
+
+}